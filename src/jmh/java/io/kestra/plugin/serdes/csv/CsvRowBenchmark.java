@@ -0,0 +1,64 @@
+package io.kestra.plugin.serdes.csv;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compare the previous {@link TreeMap} to {@link LinkedHashMap} row conversion with {@link CsvRow} on wide rows,
+ * run with the gc profiler to get the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CsvRowBenchmark {
+    @Param({"20", "300"})
+    int columns;
+
+    private Map<Integer, String> headers;
+    private CsvRow.Header header;
+    private CsvRecord record;
+
+    @Setup
+    public void setup() {
+        String headerLine = IntStream.range(0, columns).mapToObj(i -> "column_" + i).collect(Collectors.joining(","));
+        String rowLine = IntStream.range(0, columns).mapToObj(i -> "value_" + (i % 7)).collect(Collectors.joining(","));
+
+        List<CsvRecord> records;
+        try (CsvReader<CsvRecord> csvReader = CsvReader.builder().ofCsvRecord(headerLine + "\n" + rowLine + "\n")) {
+            records = csvReader.stream().toList();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+
+        headers = new TreeMap<>();
+        for (int i = 0; i < columns; i++) {
+            headers.put(i, records.getFirst().getField(i));
+        }
+        header = CsvRow.Header.of(records.getFirst().getFields());
+        record = records.get(1);
+    }
+
+    @Benchmark
+    public Map<String, Object> linkedHashMap() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (Map.Entry<Integer, String> entry : headers.entrySet()) {
+            fields.put(entry.getValue(), record.getField(entry.getKey()));
+        }
+
+        return fields;
+    }
+
+    @Benchmark
+    public Map<String, Object> csvRow() {
+        return header.row(record);
+    }
+}
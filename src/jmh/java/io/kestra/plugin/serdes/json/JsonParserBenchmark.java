@@ -0,0 +1,93 @@
+package io.kestra.plugin.serdes.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the jackson parser used by {@link JsonToIon} with the {@code VECTOR} parser on json new line files,
+ * both building the same records. Needs {@code --add-modules jdk.incubator.vector}, set by the jmh configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonParserBenchmark {
+    private static final int RECORDS = 10_000;
+
+    @Param({"clickstream", "api"})
+    String payload;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader objectReader;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper();
+        objectReader = objectMapper.readerFor(Object.class);
+
+        Random random = new Random(42);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < RECORDS; i++) {
+            content.append(payload.equals("clickstream") ? clickstream(random, i) : api(random, i)).append('\n');
+        }
+
+        bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void jackson(Blackhole blackhole) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(new ByteArrayInputStream(bytes))) {
+            while (parser.nextToken() != null) {
+                blackhole.consume(objectReader.readValue(parser));
+            }
+        }
+    }
+
+    @Benchmark
+    public void vector(Blackhole blackhole) throws IOException {
+        StructuralJsonReader.vector().read(new ByteArrayInputStream(bytes), blackhole::consume);
+    }
+
+    /**
+     * A flat event with short strings, urls and timestamps.
+     */
+    private static String clickstream(Random random, int i) {
+        return "{\"event_id\":\"" + Long.toHexString(random.nextLong()) + "\"," +
+            "\"timestamp\":\"2024-03-" + (10 + i % 20) + "T12:" + (10 + i % 50) + ":05.123456Z\"," +
+            "\"user_id\":" + random.nextInt(1_000_000) + "," +
+            "\"session_id\":" + Math.abs(random.nextLong()) + "," +
+            "\"url\":\"https:\\/\\/www.example.com\\/products\\/" + random.nextInt(5000) + "?ref=home&utm_source=newsletter\"," +
+            "\"referrer\":null," +
+            "\"user_agent\":\"Mozilla\\/5.0 (X11; Linux x86_64) AppleWebKit\\/537.36 (KHTML, like Gecko) Chrome\\/122.0 Safari\\/537.36\"," +
+            "\"duration\":" + random.nextDouble() * 100 + "," +
+            "\"bounced\":" + random.nextBoolean() + "," +
+            "\"country\":\"" + (i % 3 == 0 ? "France" : i % 3 == 1 ? "Deutschland" : "España") + "\"}";
+    }
+
+    /**
+     * A nested api response with arrays, escaped strings and numbers.
+     */
+    private static String api(Random random, int i) {
+        return "{\"id\":" + i + ",\"type\":\"order\"," +
+            "\"customer\":{\"name\":\"John \\\"Johnny\\\" Doe\",\"email\":\"john" + i + "@example.com\"," +
+            "\"address\":{\"street\":\"" + random.nextInt(200) + " rue de la Paix\",\"city\":\"Paris\",\"zip\":\"75002\"}}," +
+            "\"items\":[" +
+            "{\"sku\":\"A-" + random.nextInt(1000) + "\",\"quantity\":" + random.nextInt(10) + ",\"price\":" + random.nextInt(10000) / 100.0 + ",\"tags\":[\"new\",\"promo\"]}," +
+            "{\"sku\":\"B-" + random.nextInt(1000) + "\",\"quantity\":" + random.nextInt(10) + ",\"price\":" + random.nextInt(10000) / 100.0 + ",\"tags\":[]}" +
+            "]," +
+            "\"note\":\"line one\\nline two\\ttabbed\"," +
+            "\"total\":" + random.nextInt(100000) / 100.0 + ",\"paid\":true,\"coupon\":null}";
+    }
+}
@@ -0,0 +1,172 @@
+package io.kestra.plugin.serdes;
+
+import io.kestra.core.utils.Rethrow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A contiguous slice {@code [start, end)} of a local file, used to split a file into chunks that are processed concurrently.
+ */
+public record ByteRange(long start, long end) {
+    public long length() {
+        return end - start;
+    }
+
+    /**
+     * Open a stream that reads only the bytes of this range.
+     */
+    public InputStream open(File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        channel.position(start);
+
+        return new LimitedInputStream(Channels.newInputStream(channel), this.length());
+    }
+
+    /**
+     * Build the ranges between successive boundaries, empty ranges are dropped.
+     */
+    public static List<ByteRange> of(List<Long> boundaries) {
+        List<ByteRange> ranges = new ArrayList<>();
+
+        for (int i = 1; i < boundaries.size(); i++) {
+            if (boundaries.get(i) > boundaries.get(i - 1)) {
+                ranges.add(new ByteRange(boundaries.get(i - 1), boundaries.get(i)));
+            }
+        }
+
+        return ranges;
+    }
+
+    /**
+     * Split the file from {@code start} into up to {@code count} ranges of about the same length, each ending after a line feed or at the end of the file.
+     * Only valid for charsets where the line feed byte can't be part of another character, like UTF-8 or single-byte charsets.
+     */
+    public static List<ByteRange> lines(File file, long start, int count) throws IOException {
+        long length = file.length();
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(start);
+
+        for (int i = 1; i < count; i++) {
+            long target = start + (length - start) * i / count;
+            long boundary = target == start ? start : nextLine(file, target - 1);
+
+            boundaries.add(Math.max(boundary, boundaries.getLast()));
+        }
+        boundaries.add(length);
+
+        return of(boundaries);
+    }
+
+    /**
+     * @return the offset following the first line feed at or after {@code offset}, or the file length
+     */
+    public static long nextLine(File file, long offset) throws IOException {
+        long length = file.length();
+
+        try (InputStream inputStream = new BufferedInputStream(new ByteRange(offset, length).open(file))) {
+            long position = offset;
+            int current;
+            while ((current = inputStream.read()) != -1) {
+                position++;
+                if (current == '\n') {
+                    return position;
+                }
+            }
+
+            return length;
+        }
+    }
+
+    /**
+     * Apply the function on each index in {@code [0, count)} using up to {@code parallelism} threads, results are returned in the indexes order.
+     */
+    public static <T> List<T> map(int count, int parallelism, Rethrow.FunctionChecked<Integer, T, Exception> function) {
+        return Flux.range(0, count)
+            .flatMapSequential(
+                index -> Mono.fromCallable(() -> function.apply(index)).subscribeOn(Schedulers.boundedElastic()),
+                Math.max(1, parallelism)
+            )
+            .collectList()
+            .block();
+    }
+
+    /**
+     * Append the content of all files, in order, to the target file.
+     */
+    public static void concat(List<File> files, File target) throws IOException {
+        try (FileChannel output = FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (File file : files) {
+                try (FileChannel input = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                    long position = 0;
+                    long size = input.size();
+                    while (position < size) {
+                        position += input.transferTo(position, size - position, output);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int result = in.read();
+            if (result != -1) {
+                remaining--;
+            }
+
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int result = in.read(b, off, (int) Math.min(len, remaining));
+            if (result != -1) {
+                remaining -= result;
+            }
+
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(Math.min(n, remaining));
+            remaining -= skipped;
+
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
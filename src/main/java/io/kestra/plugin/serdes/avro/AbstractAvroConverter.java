@@ -15,12 +15,14 @@ import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.time.ZoneId;
 import java.util.*;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 @SuperBuilder
 @ToString
@@ -28,6 +30,8 @@ import java.util.function.Function;
 @Getter
 @NoArgsConstructor
 public abstract class AbstractAvroConverter extends Task {
+    private static final int BATCH_SIZE = 1000;
+
     @NotNull
     @io.swagger.v3.oas.annotations.media.Schema(
         title = "The avro schema associated to the data"
@@ -122,8 +126,21 @@ public abstract class AbstractAvroConverter extends Task {
     )
     protected final Property<String> timeZoneId = Property.of(ZoneId.systemDefault().toString());
 
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Number of threads used to convert the records",
+        description = "When greater than 1, the rows are decoded on their own thread, converted by batches concurrently and written in the original order by the task thread."
+    )
+    protected final Property<Integer> parallelism = Property.of(1);
 
     protected <E extends Exception> Long convert(Reader inputStream, Schema schema, Rethrow.ConsumerChecked<GenericData.Record, E> consumer, RunContext runContext) throws IOException, IllegalVariableEvaluationException {
+        return this.convert(FileSerde.readAll(inputStream), schema, consumer, runContext);
+    }
+
+    /**
+     * Convert rows, either a {@link List} of values or a {@link Map} of named values, and pass each record to the consumer.
+     */
+    protected <E extends Exception> Long convert(Flux<Object> rows, Schema schema, Rethrow.ConsumerChecked<GenericData.Record, E> consumer, RunContext runContext) throws IllegalVariableEvaluationException {
         AvroConverter converter = AvroConverter.builder()
             .schema(runContext.render(this.schema))
             .nullValues(runContext.render(this.nullValues).asList(String.class))
@@ -138,31 +155,71 @@ public abstract class AbstractAvroConverter extends Task {
             .timeZoneId(runContext.render(this.timeZoneId).as(String.class).orElseThrow())
             .build();
 
-        Flux<GenericData.Record> flowable = FileSerde.readAll(inputStream)
-            .map(this.convertToAvro(schema, converter))
-            .doOnNext(datum -> {
-                try {
-                    consumer.accept(datum);
-                } catch (Throwable e) {
-                    var avroException = new AvroConverter.IllegalRowConvertion(
-                        datum.getSchema()
-                            .getFields()
-                            .stream()
-                            .map(field -> new AbstractMap.SimpleEntry<>(field.name(), datum.get(field.name())))
-                            // https://bugs.openjdk.java.net/browse/JDK-8148463
-                            .collect(HashMap::new, (m, v) -> m.put(v.getKey(), v.getValue()), HashMap::putAll),
-                        e,
-                        null
-                    );
-                    throw new RuntimeException(avroException);
-                }
-            });
+        Function<Object, GenericData.Record> convertToAvro = this.convertToAvro(schema, converter);
+        int parallelismValue = runContext.render(this.parallelism).as(Integer.class).orElseThrow();
+
+        if (parallelismValue > 1) {
+            return this.convertParallel(rows, convertToAvro, consumer, parallelismValue);
+        }
+
+        Flux<GenericData.Record> flowable = rows
+            .map(convertToAvro)
+            .doOnNext(datum -> this.write(consumer, datum));
 
         // metrics & finalize
         Mono<Long> count = flowable.count();
         return count.block();
     }
 
+    /**
+     * Pipeline the conversion: the rows are decoded on their own thread, converted by batches on up to {@code parallelism} threads,
+     * and written in order on the calling thread, with a bounded number of batches in flight between the stages.
+     */
+    private <E extends Exception> Long convertParallel(Flux<Object> rows, Function<Object, GenericData.Record> convertToAvro, Rethrow.ConsumerChecked<GenericData.Record, E> consumer, int parallelism) {
+        Flux<List<GenericData.Record>> batches = rows
+            .subscribeOn(Schedulers.boundedElastic())
+            .buffer(BATCH_SIZE)
+            .flatMapSequential(
+                batch -> Mono.fromCallable(() -> batch.stream().map(convertToAvro).toList()).subscribeOn(Schedulers.boundedElastic()),
+                parallelism,
+                1
+            );
+
+        long count = 0;
+
+        // closing the stream cancels the upstream stages if the writer fails
+        try (Stream<List<GenericData.Record>> stream = batches.toStream(parallelism)) {
+            Iterator<List<GenericData.Record>> iterator = stream.iterator();
+
+            while (iterator.hasNext()) {
+                for (GenericData.Record datum : iterator.next()) {
+                    this.write(consumer, datum);
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    private <E extends Exception> void write(Rethrow.ConsumerChecked<GenericData.Record, E> consumer, GenericData.Record datum) {
+        try {
+            consumer.accept(datum);
+        } catch (Throwable e) {
+            var avroException = new AvroConverter.IllegalRowConvertion(
+                datum.getSchema()
+                    .getFields()
+                    .stream()
+                    .map(field -> new AbstractMap.SimpleEntry<>(field.name(), datum.get(field.name())))
+                    // https://bugs.openjdk.java.net/browse/JDK-8148463
+                    .collect(HashMap::new, (m, v) -> m.put(v.getKey(), v.getValue()), HashMap::putAll),
+                e,
+                null
+            );
+            throw new RuntimeException(avroException);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected Function<Object, GenericData.Record> convertToAvro(Schema schema, AvroConverter converter) {
         return row -> {
@@ -21,8 +21,11 @@ import java.math.RoundingMode;
 import java.nio.ByteBuffer;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @SuperBuilder
@@ -82,8 +85,15 @@ public class AvroConverter {
     @Builder.Default
     protected final String timeZoneId = ZoneId.systemDefault().toString();
 
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final transient AtomicReference<Compiled> compiled = new AtomicReference<>();
+
     private static final GenericData GENERIC_DATA = new GenericData();
 
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
     static {
         GENERIC_DATA.addLogicalTypeConversion(new Conversions.UUIDConversion());
         GENERIC_DATA.addLogicalTypeConversion(new Conversions.DecimalConversion());
@@ -100,6 +110,9 @@ public class AvroConverter {
         return GENERIC_DATA;
     }
 
+    /**
+     * Only called when overridden, {@link #fromMap(Schema, Map)} otherwise resolves the aliases of the fields once per schema.
+     */
     protected Object getValueFromNameOrAliases(Schema.Field field, Map<String, Object> data) {
         Object value = data.get(field.name());
 
@@ -115,21 +128,7 @@ public class AvroConverter {
     }
 
     public GenericData.Record fromMap(Schema schema, Map<String, Object> data) throws IllegalRowConvertion, IllegalStrictRowConversion {
-        GenericData.Record record = new GenericData.Record(schema);
-
-        for (Schema.Field field : schema.getFields()) {
-            try {
-                record.put(field.name(), convert(field.schema(), getValueFromNameOrAliases(field, data)));
-            } catch (IllegalCellConversion e) {
-                throw new IllegalRowConvertion(data, e, field);
-            }
-        }
-
-        if (this.getStrictSchema() && schema.getFields().size() < data.size()) {
-            throw new IllegalStrictRowConversion(schema, schema.getFields().stream().map(Schema.Field::name).collect(Collectors.toList()), data.values());
-        }
-
-        return record;
+        return this.plan(schema).record.fromMap(data);
     }
 
     public GenericData.Record fromArray(Schema schema, List<String> data) throws IllegalRowConvertion, IllegalStrictRowConversion {
@@ -147,71 +146,8 @@ public class AvroConverter {
         return this.fromMap(schema, map);
     }
 
-    @SuppressWarnings("unchecked")
     protected Object convert(Schema schema, Object data) throws IllegalCellConversion {
-        try {
-            if (this.getInferAllFields()) {
-                if (data instanceof String && this.contains(this.getNullValues(), (String) data)) {
-                    return null;
-                } else if (data instanceof String && this.contains(this.getNullValues(), (String) data)) {
-                    return true;
-                } else if (data instanceof String && this.contains(this.getNullValues(), (String) data)) {
-                    return false;
-                }
-            }
-
-            if (schema.getLogicalType() != null && schema.getLogicalType().getName().equals("decimal")) { // logical
-                return this.logicalDecimal(schema, data);
-            } else if (schema.getLogicalType() != null && schema.getLogicalType().getName().equals("uuid")) {
-                return this.logicalUuid(data);
-            } else if (schema.getLogicalType() != null && schema.getLogicalType().getName().equals("date")) {
-                return this.logicalDate(data);
-            } else if (schema.getLogicalType() != null && schema.getLogicalType().getName().equals("time-millis")) {
-                return this.logicalTimeMillis(data);
-            } else if (schema.getLogicalType() != null && schema.getLogicalType().getName().equals("time-micros")) {
-                return this.logicalTimeMicros(data);
-            } else if (schema.getLogicalType() != null && schema.getLogicalType().getName().equals("timestamp-millis")) {
-                return this.logicalTimestampMillis(data);
-            } else if (schema.getLogicalType() != null && schema.getLogicalType().getName().equals("timestamp-micros")) {
-                return this.logicalTimestampMicros(data);
-            } else if (schema.getLogicalType() != null && schema.getLogicalType().getName().equals("local-timestamp-millis")) {
-                return this.logicalTimestampMillis(data).atZone(zoneId()).toLocalDateTime();
-            } else if (schema.getLogicalType() != null && schema.getLogicalType().getName().equals("local-timestamp-micros")) {
-                return this.logicalTimestampMicros(data).atZone(zoneId()).toLocalDateTime();
-            } else if (schema.getType() == Schema.Type.RECORD) { // complex
-                return fromMap(schema, (Map<String, Object>) data);
-            } else if (schema.getType() == Schema.Type.ARRAY) {
-                return this.complexArray(schema, data);
-            } else if (schema.getType() == Schema.Type.MAP) {
-                return this.complexMap(schema, data);
-            } else if (schema.getType() == Schema.Type.UNION) {
-                return this.complexUnion(schema, data);
-            } else if (schema.getType() == Schema.Type.FIXED) {
-                return this.complexFixed(schema, data);
-            } else if (schema.getType() == Schema.Type.ENUM) {
-                return this.complexEnum(schema, data);
-            } else if (schema.getType() == Schema.Type.NULL) { // primitive
-                return this.primitiveNull(data);
-            } else if (schema.getType() == Schema.Type.INT) {
-                return this.primitiveInt(data);
-            } else if (schema.getType() == Schema.Type.FLOAT) {
-                return this.primitiveFloat(data);
-            } else if (schema.getType() == Schema.Type.DOUBLE) {
-                return this.primitiveDouble(data);
-            } else if (schema.getType() == Schema.Type.LONG) {
-                return this.primitiveLong(data);
-            } else if (schema.getType() == Schema.Type.BOOLEAN) {
-                return this.primitiveBool(data);
-            } else if (schema.getType() == Schema.Type.STRING) {
-                return this.primitiveString(data);
-            } else if (schema.getType() == Schema.Type.BYTES) {
-                return this.primitiveBytes(data);
-            } else {
-                throw new IllegalArgumentException("Invalid schema \"" + schema.getType() + "\"");
-            }
-        } catch (Throwable e) {
-            throw new IllegalCellConversion(schema, data, e);
-        }
+        return this.plan(schema).convert(data);
     }
 
     protected String convertDecimalSeparator(String value) {
@@ -222,12 +158,18 @@ public class AvroConverter {
         return StringUtils.replaceOnce(value, String.valueOf(this.getDecimalSeparator()), ".");
     }
 
-    @SuppressWarnings("UnpredictableBigDecimalConstructorCall")
+    /**
+     * Only called when overridden, {@link #convert(Schema, Object)} otherwise reads the scale and precision once per schema.
+     */
     protected BigDecimal logicalDecimal(Schema schema, Object data) {
         int scale = ((LogicalTypes.Decimal) schema.getLogicalType()).getScale();
         int precision = ((LogicalTypes.Decimal) schema.getLogicalType()).getPrecision();
-        double multiply = Math.pow(10D, precision - scale * 1D);
 
+        return this.logicalDecimal(scale, new MathContext(precision), Math.pow(10D, precision - scale * 1D), data);
+    }
+
+    @SuppressWarnings("UnpredictableBigDecimalConstructorCall")
+    protected BigDecimal logicalDecimal(int scale, MathContext mathContext, double multiply, Object data) {
         BigDecimal value;
 
         if (data instanceof String) {
@@ -237,9 +179,9 @@ public class AvroConverter {
         } else if (data instanceof Integer) {
             value = BigDecimal.valueOf((int) ((int) data * multiply), scale);
         } else if (data instanceof Double) {
-            value = new BigDecimal((double) data, new MathContext(precision));
+            value = new BigDecimal((double) data, mathContext);
         } else if (data instanceof Float) {
-            value = new BigDecimal((float) data, new MathContext(precision));
+            value = new BigDecimal((float) data, mathContext);
         } else {
             value = (BigDecimal) data;
         }
@@ -259,7 +201,10 @@ public class AvroConverter {
 
     protected LocalDate logicalDate(Object data) {
         if (data instanceof String) {
-            return LocalDate.parse((String) data, DateTimeFormatter.ofPattern(this.getDateFormat()));
+            IsoTemporalParser parser = IsoTemporalParser.of(this.getDateFormat());
+            LocalDate date = parser != null ? parser.parseDate((String) data) : null;
+
+            return date != null ? date : LocalDate.parse((String) data, formatter(this.getDateFormat()));
         } else if (data instanceof Date) {
             Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(this.zoneId()));
             calendar.setTime((Date) data);
@@ -284,7 +229,7 @@ public class AvroConverter {
 
     protected LocalTime logicalTimeMillis(Object data) {
         if (data instanceof String) {
-            return LocalTime.parse((String) data, DateTimeFormatter.ofPattern(this.getTimeFormat()));
+            return this.parseTime((String) data);
         }
 
         return convertJavaTime(data);
@@ -292,12 +237,19 @@ public class AvroConverter {
 
     protected LocalTime logicalTimeMicros(Object data) {
         if (data instanceof String) {
-            return LocalTime.parse((String) data, DateTimeFormatter.ofPattern(this.getTimeFormat()));
+            return this.parseTime((String) data);
         }
 
         return convertJavaTime(data);
     }
 
+    protected LocalTime parseTime(String data) {
+        IsoTemporalParser parser = IsoTemporalParser.of(this.getTimeFormat());
+        LocalTime time = parser != null ? parser.parseTime(data) : null;
+
+        return time != null ? time : LocalTime.parse(data, formatter(this.getTimeFormat()));
+    }
+
     protected LocalTime convertJavaTime(Object data) {
         if (data instanceof OffsetTime) {
             return ((OffsetTime) data).toLocalTime();
@@ -308,9 +260,11 @@ public class AvroConverter {
 
     protected Instant logicalTimestampMillis(Object data) {
         if (data instanceof String) {
-            try {
-                return Instant.ofEpochMilli(Long.parseLong((String) data));
-            } catch (NumberFormatException ignored) {
+            if (isLong((String) data)) {
+                try {
+                    return Instant.ofEpochMilli(Long.parseLong((String) data));
+                } catch (NumberFormatException ignored) {
+                }
             }
 
             return this.parseDateTime((String) data);
@@ -342,25 +296,50 @@ public class AvroConverter {
     }
 
     protected Instant parseDateTime(String data) {
-        try {
-            return ZonedDateTime.parse(data, DateTimeFormatter.ofPattern(this.getDatetimeFormat()))
-                .toInstant();
-        } catch (DateTimeParseException e) {
-            LocalDateTime localDateTime = LocalDateTime.parse(data, DateTimeFormatter.ofPattern(this.getDatetimeFormat()));
-
-            if (this.getTimeZoneId() != null) {
-                return localDateTime.atZone(ZoneId.of(this.getTimeZoneId())).toInstant();
-            } else {
-                return localDateTime.toInstant(ZoneOffset.UTC);
+        IsoTemporalParser parser = IsoTemporalParser.of(this.getDatetimeFormat());
+        Temporal temporal = parser != null ? parser.parseDateTime(data) : null;
+
+        if (temporal == null) {
+            // a single parse, resolved as a zoned date time only if the text has a zone or an offset
+            temporal = (Temporal) formatter(this.getDatetimeFormat()).parseBest(data, ZonedDateTime::from, LocalDateTime::from);
+        }
+
+        if (temporal instanceof LocalDateTime localDateTime) {
+            return localDateTime.atZone(this.zoneId()).toInstant();
+        }
+
+        return Instant.from(temporal);
+    }
+
+    private static DateTimeFormatter formatter(String pattern) {
+        return FORMATTERS.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+    }
+
+    /**
+     * Check the text looks like a long to avoid the cost of a {@link NumberFormatException} on dates.
+     */
+    private static boolean isLong(String data) {
+        int start = !data.isEmpty() && (data.charAt(0) == '-' || data.charAt(0) == '+') ? 1 : 0;
+        if (data.length() == start || data.length() - start > 19) {
+            return false;
+        }
+
+        for (int i = start; i < data.length(); i++) {
+            if (data.charAt(i) < '0' || data.charAt(i) > '9') {
+                return false;
             }
         }
+
+        return true;
     }
 
     protected Instant logicalTimestampMicros(Object data) {
         if (data instanceof String) {
-            try {
-                return Instant.ofEpochSecond(0, Long.parseLong((String) data) * 1000);
-            } catch (NumberFormatException ignored) {
+            if (isLong((String) data)) {
+                try {
+                    return Instant.ofEpochSecond(0, Long.parseLong((String) data) * 1000);
+                } catch (NumberFormatException ignored) {
+                }
             }
 
             return this.parseDateTime((String) data);
@@ -371,29 +350,18 @@ public class AvroConverter {
         return convertJavaDateTime(data);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Only called when overridden, {@link #convert(Schema, Object)} otherwise uses the plan compiled for the schema, as this method does.
+     */
     protected List<Object> complexArray(Schema schema, Object data) throws IllegalCellConversion {
-        Schema elementType = schema.getElementType();
-
-        Collection<Object> list = (Collection<Object>) data;
-        List<Object> result = new ArrayList<>();
-
-        for (Object current : list) {
-            result.add(this.convert(elementType, current));
-        }
-
-        return result;
+        return this.complexArray(this.plan(schema.getElementType()), data);
     }
 
+    /**
+     * Only called when overridden, {@link #convert(Schema, Object)} otherwise uses the plan compiled for the schema, as this method does.
+     */
     protected Object complexUnion(Schema schema, Object data) {
-        for (Schema current : schema.getTypes()) {
-            try {
-                return this.convert(current, data);
-            } catch (Exception ignored) {
-            }
-        }
-
-        throw new IllegalArgumentException("Invalid data for schema \"" + schema.getType() + "\"");
+        return this.complexUnion(this.plan(schema), data);
     }
 
     protected GenericData.Fixed complexFixed(Schema schema, Object data) {
@@ -410,21 +378,11 @@ public class AvroConverter {
         return new GenericData.Fixed(schema, value.array());
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Only called when overridden, {@link #convert(Schema, Object)} otherwise uses the plan compiled for the schema, as this method does.
+     */
     protected Map<Utf8, Object> complexMap(Schema schema, Object data) throws IllegalCellConversion {
-        Schema valueType = schema.getValueType();
-
-        Map<Object, Object> list = (Map<Object, Object>) data;
-        Map<Utf8, Object> result = new HashMap<>();
-
-        for (Map.Entry<Object, Object> current : list.entrySet()) {
-            result.put(
-                new Utf8(this.primitiveString(current.getKey()).getBytes()),
-                this.convert(valueType, current.getValue())
-            );
-        }
-
-        return result;
+        return this.complexMap(this.plan(schema.getValueType()), data);
     }
 
     protected GenericData.EnumSymbol complexEnum(Schema schema, Object data) {
@@ -439,7 +397,7 @@ public class AvroConverter {
     }
 
     protected Integer primitiveNull(Object data) {
-        if (data instanceof String && this.contains(this.getNullValues(), (String) data)) {
+        if (data instanceof String && this.isNullValue((String) data)) {
             return null;
         } else if (data == null) {
             return null;
@@ -493,9 +451,9 @@ public class AvroConverter {
     }
 
     public Boolean primitiveBool(Object data) {
-        if (data instanceof String && this.contains(this.getTrueValues(), (String) data)) {
+        if (data instanceof String && this.isTrueValue((String) data)) {
             return true;
-        } else if (data instanceof String && this.contains(this.getFalseValues(), (String) data)) {
+        } else if (data instanceof String && this.isFalseValue((String) data)) {
             return false;
         } else if (data instanceof Integer && (int) data == 1) {
             return true;
@@ -514,12 +472,462 @@ public class AvroConverter {
         return ByteBuffer.wrap(this.primitiveString(data).getBytes());
     }
 
+    /**
+     * Only called when overridden, the null, true and false values are otherwise lower-cased once and looked up in a set.
+     */
     protected boolean contains(List<String> list, String data) {
-        return list.stream().anyMatch(s -> s.equalsIgnoreCase(data));
+        for (String value : list) {
+            if (value.equalsIgnoreCase(data)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     protected ZoneId zoneId() {
-        return this.getTimeZoneId() != null ? ZoneId.of(this.getTimeZoneId()) : ZoneOffset.UTC;
+        return this.compiled().zoneId;
+    }
+
+    private Compiled compiled() {
+        Compiled current = this.compiled.get();
+
+        if (current == null) {
+            this.compiled.compareAndSet(null, new Compiled(this));
+            current = this.compiled.get();
+        }
+
+        return current;
+    }
+
+    /**
+     * The plan of a schema, compiled on first use and reused for all the rows.
+     */
+    private Plan plan(Schema schema) {
+        Map<Schema, Plan> plans = this.compiled().plans;
+        Plan plan = plans.get(schema);
+
+        if (plan == null) {
+            plan = this.compile(schema, new IdentityHashMap<>());
+            plans.putIfAbsent(schema, plan);
+        }
+
+        return plan;
+    }
+
+    /**
+     * @param compiling the plans of the schema being compiled, for recursive schemas
+     */
+    private Plan compile(Schema schema, Map<Schema, Plan> compiling) {
+        Plan existing = compiling.get(schema);
+        if (existing != null) {
+            return existing;
+        }
+
+        Plan plan = new Plan(schema);
+        compiling.put(schema, plan);
+
+        if (schema.getType() == Schema.Type.RECORD) {
+            plan.record = new RecordPlan(schema, schema.getFields().stream().map(field -> this.compile(field.schema(), compiling)).toArray(Plan[]::new));
+        }
+
+        plan.guard = this.guard(schema);
+        plan.conversion = this.conversion(schema, plan, compiling);
+
+        return plan;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Conversion conversion(Schema schema, Plan plan, Map<Schema, Plan> compiling) {
+        if (schema.getLogicalType() != null) {
+            Conversion logical = switch (schema.getLogicalType().getName()) {
+                case "decimal" -> {
+                    int scale = ((LogicalTypes.Decimal) schema.getLogicalType()).getScale();
+                    int precision = ((LogicalTypes.Decimal) schema.getLogicalType()).getPrecision();
+                    MathContext mathContext = new MathContext(precision);
+                    double multiply = Math.pow(10D, precision - scale * 1D);
+
+                    if (this.compiled().overridden.contains("logicalDecimal")) {
+                        yield data -> this.logicalDecimal(schema, data);
+                    }
+
+                    yield data -> this.logicalDecimal(scale, mathContext, multiply, data);
+                }
+                case "uuid" -> this::logicalUuid;
+                case "date" -> this::logicalDate;
+                case "time-millis" -> this::logicalTimeMillis;
+                case "time-micros" -> this::logicalTimeMicros;
+                case "timestamp-millis" -> this::logicalTimestampMillis;
+                case "timestamp-micros" -> this::logicalTimestampMicros;
+                case "local-timestamp-millis" -> data -> this.logicalTimestampMillis(data).atZone(zoneId()).toLocalDateTime();
+                case "local-timestamp-micros" -> data -> this.logicalTimestampMicros(data).atZone(zoneId()).toLocalDateTime();
+                default -> null;
+            };
+
+            if (logical != null) {
+                return logical;
+            }
+        }
+
+        Set<String> overridden = this.compiled().overridden;
+
+        return switch (schema.getType()) {
+            case RECORD -> data -> plan.record.fromMap((Map<String, Object>) data);
+            case ARRAY -> {
+                if (overridden.contains("complexArray")) {
+                    yield data -> this.complexArray(schema, data);
+                }
+
+                Plan element = this.compile(schema.getElementType(), compiling);
+
+                yield data -> this.complexArray(element, data);
+            }
+            case MAP -> {
+                if (overridden.contains("complexMap")) {
+                    yield data -> this.complexMap(schema, data);
+                }
+
+                Plan value = this.compile(schema.getValueType(), compiling);
+
+                yield data -> this.complexMap(value, data);
+            }
+            case UNION -> {
+                plan.union = schema.getTypes().stream().map(type -> this.compile(type, compiling)).toList();
+
+                if (overridden.contains("complexUnion")) {
+                    yield data -> this.complexUnion(schema, data);
+                }
+
+                yield data -> this.complexUnion(plan, data);
+            }
+            case FIXED -> data -> this.complexFixed(schema, data);
+            case ENUM -> data -> this.complexEnum(schema, data);
+            case NULL -> this::primitiveNull;
+            case INT -> this::primitiveInt;
+            case FLOAT -> this::primitiveFloat;
+            case DOUBLE -> this::primitiveDouble;
+            case LONG -> this::primitiveLong;
+            case BOOLEAN -> this::primitiveBool;
+            case STRING -> this::primitiveString;
+            case BYTES -> this::primitiveBytes;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> complexArray(Plan element, Object data) throws IllegalCellConversion {
+        Collection<Object> list = (Collection<Object>) data;
+        List<Object> result = new ArrayList<>(list.size());
+
+        for (Object current : list) {
+            result.add(element.convert(current));
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Utf8, Object> complexMap(Plan value, Object data) throws IllegalCellConversion {
+        Map<Object, Object> map = (Map<Object, Object>) data;
+        Map<Utf8, Object> result = new HashMap<>();
+
+        for (Map.Entry<Object, Object> current : map.entrySet()) {
+            result.put(
+                new Utf8(this.primitiveString(current.getKey()).getBytes()),
+                value.convert(current.getValue())
+            );
+        }
+
+        return result;
+    }
+
+    /**
+     * Convert with the first branch of the union that succeeds, only trying the branches whose guard accepts the value:
+     * the branches that can take the class of the value are remembered per union, and strings are checked against the branch before trying it.
+     * <p>
+     * The last successful branch is not tried first: the first branch that converts the value must win, and "12" in
+     * {@code ["long", "string"]} after a non-numeric string would become a string. With the guards, a branch only fails
+     * on values its guard can't tell apart, like integer overflows or malformed dates.
+     */
+    private Object complexUnion(Plan union, Object data) {
+        Class<?> type = data == null ? Void.class : data.getClass();
+        Plan[] plans = union.candidates.get(type);
+
+        if (plans == null) {
+            plans = union.union.stream().filter(plan -> plan.accepts(type)).toArray(Plan[]::new);
+            union.candidates.putIfAbsent(type, plans);
+        }
+
+        for (Plan current : plans) {
+            if (data instanceof String string && !current.accepts(string)) {
+                continue;
+            }
+
+            try {
+                return current.convert(data);
+            } catch (Exception ignored) {
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid data for schema \"" + union.schema.getType() + "\"");
+    }
+
+    /**
+     * The guard of a schema, rejecting only the values its conversion would always fail on.
+     */
+    private Guard guard(Schema schema) {
+        if (schema.getLogicalType() != null) {
+            Guard logical = switch (schema.getLogicalType().getName()) {
+                case "decimal" -> new Guard(
+                    instanceOf(String.class, Long.class, Integer.class, Double.class, Float.class, BigDecimal.class),
+                    this::isDecimal
+                );
+                case "uuid" -> Guard.of(instanceOf(Void.class, String.class, UUID.class));
+                case "date" -> Guard.of(instanceOf(
+                    Void.class, String.class, Date.class, ZonedDateTime.class, OffsetDateTime.class, LocalDateTime.class, Instant.class, LocalDate.class
+                ));
+                case "time-millis", "time-micros" -> Guard.of(instanceOf(Void.class, String.class, OffsetTime.class, LocalTime.class));
+                case "timestamp-millis", "timestamp-micros" -> Guard.of(instanceOf(
+                    Void.class, String.class, Long.class, LocalDateTime.class, ZonedDateTime.class, OffsetDateTime.class, Instant.class
+                ));
+                case "local-timestamp-millis", "local-timestamp-micros" -> Guard.of(instanceOf(
+                    String.class, Long.class, LocalDateTime.class, ZonedDateTime.class, OffsetDateTime.class, Instant.class
+                ));
+                default -> null;
+            };
+
+            if (logical != null) {
+                return logical;
+            }
+        }
+
+        return switch (schema.getType()) {
+            case RECORD, MAP -> Guard.of(instanceOf(Map.class));
+            case ARRAY -> Guard.of(instanceOf(Collection.class));
+            case ENUM -> new Guard(type -> true, data -> schema.getEnumSymbols().contains(data));
+            case NULL -> new Guard(instanceOf(Void.class, String.class), this::isNullValue);
+            case INT -> new Guard(instanceOf(String.class, Integer.class), AvroConverter::isInteger);
+            case LONG -> new Guard(instanceOf(String.class, Integer.class, BigInteger.class, Long.class), AvroConverter::isInteger);
+            case FLOAT, DOUBLE -> new Guard(instanceOf(String.class, Integer.class, Float.class, Double.class), this::isDecimal);
+            case BOOLEAN -> new Guard(instanceOf(String.class, Integer.class, Boolean.class), data -> this.isTrueValue(data) || this.isFalseValue(data));
+            case UNION, FIXED, STRING, BYTES -> Guard.ANY;
+        };
+    }
+
+    private static Predicate<Class<?>> instanceOf(Class<?>... classes) {
+        return type -> {
+            for (Class<?> current : classes) {
+                if (current.isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+
+            return false;
+        };
+    }
+
+    /**
+     * Check the text can be an integer, {@link Integer#valueOf(String)} can still fail on overflow.
+     */
+    private static boolean isInteger(String data) {
+        int start = !data.isEmpty() && (data.charAt(0) == '-' || data.charAt(0) == '+') ? 1 : 0;
+        if (data.length() == start) {
+            return false;
+        }
+
+        for (int i = start; i < data.length(); i++) {
+            if (Character.digit(data.charAt(i), 10) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check the text can start a decimal number, including {@code NaN} and {@code Infinity} accepted for floating types.
+     */
+    private boolean isDecimal(String data) {
+        String value = data.trim();
+        if (value.isEmpty()) {
+            return false;
+        }
+
+        char first = value.charAt(0);
+
+        return Character.isDigit(first) || first == '-' || first == '+' || first == '.' || first == this.getDecimalSeparator() || first == 'N' || first == 'I';
+    }
+
+    private boolean isNullValue(String data) {
+        Compiled compiled = this.compiled();
+
+        return compiled.overridden.contains("contains") ? this.contains(this.getNullValues(), data) : compiled.nullValues.contains(data.toLowerCase(Locale.ROOT));
+    }
+
+    private boolean isTrueValue(String data) {
+        Compiled compiled = this.compiled();
+
+        return compiled.overridden.contains("contains") ? this.contains(this.getTrueValues(), data) : compiled.trueValues.contains(data.toLowerCase(Locale.ROOT));
+    }
+
+    private boolean isFalseValue(String data) {
+        Compiled compiled = this.compiled();
+
+        return compiled.overridden.contains("contains") ? this.contains(this.getFalseValues(), data) : compiled.falseValues.contains(data.toLowerCase(Locale.ROOT));
+    }
+
+    @FunctionalInterface
+    private interface Conversion {
+        Object convert(Object data) throws Throwable;
+    }
+
+    /**
+     * @param types false for the classes of values the conversion always fails on, {@link Void} for null
+     * @param strings false for the strings the conversion always fails on
+     */
+    private record Guard(Predicate<Class<?>> types, Predicate<String> strings) {
+        private static final Guard ANY = new Guard(type -> true, data -> true);
+
+        private static Guard of(Predicate<Class<?>> types) {
+            return new Guard(types, data -> true);
+        }
+    }
+
+    /**
+     * The state derived from the configuration: case-insensitive token sets, the timezone, the compiled plan of each schema
+     * and the protected methods a subclass overrides, that the plans call instead of their own conversion.
+     */
+    private static final class Compiled {
+        private static final Map<String, Class<?>[]> HOOKS = Map.of(
+            "getValueFromNameOrAliases", new Class<?>[]{Schema.Field.class, Map.class},
+            "logicalDecimal", new Class<?>[]{Schema.class, Object.class},
+            "complexArray", new Class<?>[]{Schema.class, Object.class},
+            "complexUnion", new Class<?>[]{Schema.class, Object.class},
+            "complexMap", new Class<?>[]{Schema.class, Object.class},
+            "contains", new Class<?>[]{List.class, String.class}
+        );
+
+        private final Set<String> nullValues;
+        private final Set<String> trueValues;
+        private final Set<String> falseValues;
+        private final ZoneId zoneId;
+        private final Set<String> overridden;
+        private final Map<Schema, Plan> plans = new ConcurrentHashMap<>();
+
+        private Compiled(AvroConverter converter) {
+            this.nullValues = lowerCase(converter.getNullValues());
+            this.trueValues = lowerCase(converter.getTrueValues());
+            this.falseValues = lowerCase(converter.getFalseValues());
+            this.zoneId = converter.getTimeZoneId() != null ? ZoneId.of(converter.getTimeZoneId()) : ZoneOffset.UTC;
+            this.overridden = HOOKS.keySet().stream()
+                .filter(name -> overrides(converter.getClass(), name, HOOKS.get(name)))
+                .collect(Collectors.toUnmodifiableSet());
+        }
+
+        private static Set<String> lowerCase(List<String> values) {
+            return values.stream().map(value -> value.toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+        }
+
+        private static boolean overrides(Class<?> type, String name, Class<?>[] parameters) {
+            for (Class<?> current = type; current != AvroConverter.class; current = current.getSuperclass()) {
+                try {
+                    current.getDeclaredMethod(name, parameters);
+
+                    return true;
+                } catch (NoSuchMethodException ignored) {
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * The conversion of a schema with its nested plans resolved, wrapping the failures like {@link #convert(Schema, Object)}.
+     */
+    private final class Plan {
+        private final Schema schema;
+        private final boolean inferAllFields = Boolean.TRUE.equals(AvroConverter.this.getInferAllFields());
+        private Conversion conversion;
+        private Guard guard;
+        private RecordPlan record;
+        private List<Plan> union;
+        private final Map<Class<?>, Plan[]> candidates = new ConcurrentHashMap<>();
+
+        private Plan(Schema schema) {
+            this.schema = schema;
+        }
+
+        private boolean accepts(Class<?> type) {
+            return (inferAllFields && type == String.class) || guard.types().test(type);
+        }
+
+        private boolean accepts(String data) {
+            return (inferAllFields && isNullValue(data)) || guard.strings().test(data);
+        }
+
+        private Object convert(Object data) throws IllegalCellConversion {
+            try {
+                if (inferAllFields && data instanceof String string && isNullValue(string)) {
+                    return null;
+                }
+
+                return conversion.convert(data);
+            } catch (Throwable e) {
+                throw new IllegalCellConversion(schema, data, e);
+            }
+        }
+    }
+
+    /**
+     * The fields of a record schema with their position, aliases and plan resolved.
+     */
+    private final class RecordPlan {
+        private final Schema schema;
+        private final Schema.Field[] fields;
+        private final String[][] aliases;
+        private final Plan[] plans;
+        private final List<String> names;
+        private final boolean overridden = compiled().overridden.contains("getValueFromNameOrAliases");
+
+        private RecordPlan(Schema schema, Plan[] plans) {
+            this.schema = schema;
+            this.fields = schema.getFields().toArray(Schema.Field[]::new);
+            this.aliases = schema.getFields().stream().map(field -> field.aliases().toArray(String[]::new)).toArray(String[][]::new);
+            this.plans = plans;
+            this.names = schema.getFields().stream().map(Schema.Field::name).toList();
+        }
+
+        private Object value(int index, Map<String, Object> data) {
+            if (overridden) {
+                return getValueFromNameOrAliases(fields[index], data);
+            }
+
+            Object value = data.get(names.get(index));
+
+            for (int i = 0; value == null && i < aliases[index].length; i++) {
+                value = data.get(aliases[index][i]);
+            }
+
+            return value;
+        }
+
+        private GenericData.Record fromMap(Map<String, Object> data) throws IllegalRowConvertion, IllegalStrictRowConversion {
+            GenericData.Record record = new GenericData.Record(schema);
+
+            for (int i = 0; i < fields.length; i++) {
+                try {
+                    record.put(fields[i].pos(), plans[i].convert(this.value(i, data)));
+                } catch (IllegalCellConversion e) {
+                    throw new IllegalRowConvertion(data, e, fields[i]);
+                }
+            }
+
+            if (getStrictSchema() && fields.length < data.size()) {
+                throw new IllegalStrictRowConversion(schema, names, data.values());
+            }
+
+            return record;
+        }
     }
 
     protected static String trimExceptionMessage(Object data) throws JsonProcessingException {
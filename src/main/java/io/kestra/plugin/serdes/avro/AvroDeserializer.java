@@ -1,11 +1,13 @@
 package io.kestra.plugin.serdes.avro;
 
+import org.apache.avro.AvroRuntimeException;
 import org.apache.avro.Conversions.DecimalConversion;
 import org.apache.avro.Conversions.UUIDConversion;
 import org.apache.avro.LogicalType;
 import org.apache.avro.Schema;
 import org.apache.avro.Schema.Type;
 import org.apache.avro.data.TimeConversions.*;
+import org.apache.avro.generic.GenericContainer;
 import org.apache.avro.generic.GenericFixed;
 import org.apache.avro.generic.GenericRecord;
 
@@ -16,6 +18,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class AvroDeserializer {
@@ -39,7 +42,20 @@ public class AvroDeserializer {
     private static final LocalTimestampMicrosConversion LOCAL_TIMESTAMP_MICROS_CONVERSION = new LocalTimestampMicrosConversion();
     private static final LocalTimestampMillisConversion LOCAL_TIMESTAMP_MILLIS_CONVERSION = new LocalTimestampMillisConversion();
 
+    private static final int UNRESOLVED = -1;
+
+    // the union branch of each value class, per union schema of the file read
+    private final Map<Schema, Map<Class<?>, Integer>> unionBranches = new ConcurrentHashMap<>();
+
+    /**
+     * Deserialize a record without reusing the union branches resolved for the previous records,
+     * use an instance and {@link #deserialize(GenericRecord)} to read the records of a file.
+     */
     public static Map<String, Object> recordDeserializer(GenericRecord record) {
+        return new AvroDeserializer().deserialize(record);
+    }
+
+    public Map<String, Object> deserialize(GenericRecord record) {
         return record
             .getSchema()
             .getFields()
@@ -48,14 +64,14 @@ public class AvroDeserializer {
                 LinkedHashMap::new, // preserve schema field order
                 (m, v) -> m.put(
                     v.name(),
-                    AvroDeserializer.objectDeserializer(record.get(v.name()), v.schema())
+                    this.objectDeserializer(record.get(v.name()), v.schema())
                 ),
                 HashMap::putAll
             );
     }
 
     @SuppressWarnings("unchecked")
-    private static Object objectDeserializer(Object value, Schema schema) {
+    private Object objectDeserializer(Object value, Schema schema) {
         LogicalType logicalType = schema.getLogicalType();
         Type primitiveType = schema.getType();
         if (logicalType != null) {
@@ -84,15 +100,15 @@ public class AvroDeserializer {
         } else {
             switch (primitiveType) {
                 case UNION:
-                    return AvroDeserializer.unionDeserializer(value, schema);
+                    return this.unionDeserializer(value, schema);
                 case MAP:
-                    return AvroDeserializer.mapDeserializer((Map<String, ?>) value, schema);
+                    return this.mapDeserializer((Map<String, ?>) value, schema);
                 case RECORD:
-                    return AvroDeserializer.recordDeserializer((GenericRecord) value);
+                    return this.deserialize((GenericRecord) value);
                 case ENUM:
                     return value.toString();
                 case ARRAY:
-                    return arrayDeserializer((Collection<?>) value, schema);
+                    return this.arrayDeserializer((Collection<?>) value, schema);
                 case FIXED:
                     return ((GenericFixed) value).bytes();
                 case STRING:
@@ -112,7 +128,7 @@ public class AvroDeserializer {
         }
     }
 
-    private static Object unionDeserializer(Object value, Schema schema) {
+    private Object unionDeserializer(Object value, Schema schema) {
         // first, if value is null, check if the null type exist to avoid generating a NPE
         if (value == null) {
             if (schema.getTypes().stream().anyMatch(t -> t.getType() == Type.NULL)) {
@@ -122,11 +138,21 @@ public class AvroDeserializer {
             }
         }
 
-        // then, evaluate each type and return the first that didn't generate an exception
+        // then, use the type of the value
+        int branch = this.unionBranch(value, schema);
+        if (branch != UNRESOLVED) {
+            try {
+                return this.objectDeserializer(value, schema.getTypes().get(branch));
+            } catch (Exception e) {
+                // do nothing : try each type
+            }
+        }
+
+        // else, evaluate each type and return the first that didn't generate an exception
         for (var type : schema.getTypes()) {
             // try to deserialized by each type and return the first that works
             try {
-                return AvroDeserializer.objectDeserializer(value, type);
+                return this.objectDeserializer(value, type);
             } catch (Exception e) {
                 // do nothing : try the next one
             }
@@ -134,20 +160,52 @@ public class AvroDeserializer {
         throw new IllegalArgumentException("Unable to deserialize objet " + value + " with schema " + schema);
     }
 
-    private static Map<String, ?> mapDeserializer(Map<String, ?> value, Schema schema) {
+    /**
+     * The branch of the union for the value, as resolved by {@link org.apache.avro.generic.GenericData#resolveUnion(Schema, Object)}.
+     * It's cached per union and value class, except for records, enums and fixed that are resolved by the name of their schema.
+     */
+    private int unionBranch(Object value, Schema schema) {
+        if (value instanceof GenericContainer) {
+            return AvroDeserializer.resolveUnion(value, schema);
+        }
+
+        Map<Class<?>, Integer> branches = unionBranches.get(schema);
+        if (branches == null) {
+            branches = unionBranches.computeIfAbsent(schema, k -> new ConcurrentHashMap<>());
+        }
+
+        Integer branch = branches.get(value.getClass());
+        if (branch == null) {
+            branch = AvroDeserializer.resolveUnion(value, schema);
+            branches.put(value.getClass(), branch);
+        }
+
+        return branch;
+    }
+
+    private static int resolveUnion(Object value, Schema schema) {
+        try {
+            // with the logical type conversions, to resolve the values already converted by the reader
+            return AvroConverter.genericData().resolveUnion(schema, value);
+        } catch (AvroRuntimeException e) {
+            return UNRESOLVED;
+        }
+    }
+
+    private Map<String, ?> mapDeserializer(Map<String, ?> value, Schema schema) {
         return value
             .entrySet()
             .stream()
             .collect(Collectors.toMap(
                 Map.Entry::getKey,
-                e -> AvroDeserializer.objectDeserializer(e.getValue(), schema.getValueType()))
+                e -> this.objectDeserializer(e.getValue(), schema.getValueType()))
             );
     }
 
-    private static Collection<?> arrayDeserializer(Collection<?> value, Schema schema) {
+    private Collection<?> arrayDeserializer(Collection<?> value, Schema schema) {
         return value
             .stream()
-            .map(e -> AvroDeserializer.objectDeserializer(e, schema.getElementType()))
+            .map(e -> this.objectDeserializer(e, schema.getElementType()))
             .collect(Collectors.toList());
     }
 
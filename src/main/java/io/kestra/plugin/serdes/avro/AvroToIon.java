@@ -76,9 +76,12 @@ public class AvroToIon extends Task implements RunnableTask<AvroToIon.Output> {
         ) {
             DataFileStream<GenericRecord> dataFileStream = new DataFileStream<>(in, datumReader);
 
+            // union branches are resolved once per file
+            AvroDeserializer avroDeserializer = new AvroDeserializer();
+
             Flux<Map<String, Object>> flowable = Flux
                 .create(this.nextRow(dataFileStream), FluxSink.OverflowStrategy.BUFFER)
-                .map(AvroDeserializer::recordDeserializer);
+                .map(avroDeserializer::deserialize);
 
             Mono<Long> count = FileSerde.writeAll(output, flowable);
 
@@ -0,0 +1,211 @@
+package io.kestra.plugin.serdes.avro;
+
+import java.time.*;
+import java.time.temporal.Temporal;
+import java.util.Map;
+
+/**
+ * Parse the common ISO-8601 like date and time patterns without a {@link java.time.format.DateTimeFormatter} and without exceptions.
+ * The parse methods return null for any text they don't fully handle, the caller then falls back to the formatter of the pattern.
+ */
+final class IsoTemporalParser {
+    private enum Presence {
+        NONE,
+        OPTIONAL,
+        REQUIRED
+    }
+
+    private static final Map<String, IsoTemporalParser> PATTERNS = Map.ofEntries(
+        Map.entry("yyyy-MM-dd", new IsoTemporalParser(true, (char) 0, false, Presence.NONE, false, Presence.NONE)),
+        Map.entry("yyyy-MM-dd[XXX]", new IsoTemporalParser(true, (char) 0, false, Presence.NONE, false, Presence.NONE)),
+        Map.entry("HH:mm", new IsoTemporalParser(false, (char) 0, true, Presence.NONE, false, Presence.NONE)),
+        Map.entry("HH:mm:ss", new IsoTemporalParser(false, (char) 0, true, Presence.REQUIRED, false, Presence.NONE)),
+        Map.entry("HH:mm[:ss][.SSSSSS][XXX]", new IsoTemporalParser(false, (char) 0, true, Presence.OPTIONAL, true, Presence.NONE)),
+        Map.entry("yyyy-MM-dd'T'HH:mm[:ss][.SSSSSS][XXX]", new IsoTemporalParser(true, 'T', true, Presence.OPTIONAL, true, Presence.OPTIONAL)),
+        Map.entry("yyyy-MM-dd'T'HH:mm:ss", new IsoTemporalParser(true, 'T', true, Presence.REQUIRED, false, Presence.NONE)),
+        Map.entry("yyyy-MM-dd'T'HH:mm:ss[XXX]", new IsoTemporalParser(true, 'T', true, Presence.REQUIRED, false, Presence.OPTIONAL)),
+        Map.entry("yyyy-MM-dd'T'HH:mm:ssXXX", new IsoTemporalParser(true, 'T', true, Presence.REQUIRED, false, Presence.REQUIRED)),
+        Map.entry("yyyy-MM-dd HH:mm", new IsoTemporalParser(true, ' ', true, Presence.NONE, false, Presence.NONE)),
+        Map.entry("yyyy-MM-dd HH:mm:ss", new IsoTemporalParser(true, ' ', true, Presence.REQUIRED, false, Presence.NONE))
+    );
+
+    private final boolean date;
+    private final char separator;
+    private final boolean time;
+    private final Presence seconds;
+    private final boolean micros;
+    private final Presence offset;
+
+    private IsoTemporalParser(boolean date, char separator, boolean time, Presence seconds, boolean micros, Presence offset) {
+        this.date = date;
+        this.separator = separator;
+        this.time = time;
+        this.seconds = seconds;
+        this.micros = micros;
+        this.offset = offset;
+    }
+
+    /**
+     * @return the parser of the pattern, null if the pattern is not supported
+     */
+    static IsoTemporalParser of(String pattern) {
+        return pattern == null ? null : PATTERNS.get(pattern);
+    }
+
+    LocalDate parseDate(String text) {
+        if (!date || time || text.length() != 10) {
+            return null;
+        }
+
+        return date(text);
+    }
+
+    LocalTime parseTime(String text) {
+        if (date || !time) {
+            return null;
+        }
+
+        int[] fields = new int[4];
+        if (this.time(text, 0, fields) != text.length()) {
+            return null;
+        }
+
+        return LocalTime.of(fields[0], fields[1], fields[2], fields[3]);
+    }
+
+    /**
+     * @return an {@link OffsetDateTime} if the text has an offset, a {@link LocalDateTime} otherwise
+     */
+    Temporal parseDateTime(String text) {
+        if (!date || !time || text.length() < 16 || text.charAt(10) != separator) {
+            return null;
+        }
+
+        LocalDate localDate = date(text);
+        int[] fields = new int[4];
+        int position = this.time(text, 11, fields);
+        if (localDate == null || position < 0) {
+            return null;
+        }
+
+        LocalDateTime localDateTime = LocalDateTime.of(localDate, LocalTime.of(fields[0], fields[1], fields[2], fields[3]));
+
+        if (position == text.length()) {
+            return offset == Presence.REQUIRED ? null : localDateTime;
+        }
+
+        if (offset == Presence.NONE) {
+            return null;
+        }
+
+        ZoneOffset zoneOffset = offset(text, position);
+
+        return zoneOffset == null ? null : OffsetDateTime.of(localDateTime, zoneOffset);
+    }
+
+    private static LocalDate date(String text) {
+        if (text.length() < 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+
+        // invalid days are adjusted by the formatter, they are left to it
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Read {@code HH:mm[:ss[.SSSSSS]]} at the position in hour, minute, second and nanosecond.
+     *
+     * @return the position after the time, -1 if there is no valid time
+     */
+    private int time(String text, int position, int[] fields) {
+        if (text.length() < position + 5 || text.charAt(position + 2) != ':') {
+            return -1;
+        }
+
+        int hour = digits(text, position, 2);
+        int minute = digits(text, position + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return -1;
+        }
+        position += 5;
+
+        int second = 0;
+        int nano = 0;
+        if (seconds != Presence.NONE && position < text.length() && text.charAt(position) == ':') {
+            second = digits(text, position + 1, 2);
+            if (second < 0 || second > 59) {
+                return -1;
+            }
+            position += 3;
+
+            if (micros && position < text.length() && text.charAt(position) == '.') {
+                int fraction = digits(text, position + 1, 6);
+                if (fraction < 0) {
+                    return -1;
+                }
+                nano = fraction * 1000;
+                position += 7;
+            }
+        } else if (seconds == Presence.REQUIRED) {
+            return -1;
+        }
+
+        fields[0] = hour;
+        fields[1] = minute;
+        fields[2] = second;
+        fields[3] = nano;
+
+        return position;
+    }
+
+    /**
+     * Read an offset like {@code Z} or {@code +01:00} ending the text.
+     */
+    private static ZoneOffset offset(String text, int position) {
+        if (text.length() == position + 1 && text.charAt(position) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+
+        char sign = text.charAt(position);
+        if (text.length() != position + 6 || (sign != '+' && sign != '-') || text.charAt(position + 3) != ':') {
+            return null;
+        }
+
+        int hours = digits(text, position + 1, 2);
+        int minutes = digits(text, position + 4, 2);
+        if (hours < 0 || hours > 17 || minutes < 0 || minutes > 59) {
+            return null;
+        }
+
+        return sign == '+' ? ZoneOffset.ofHoursMinutes(hours, minutes) : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+    }
+
+    /**
+     * @return the value of the {@code count} digits at the position, -1 if they are not all digits
+     */
+    private static int digits(String text, int position, int count) {
+        if (position + count > text.length()) {
+            return -1;
+        }
+
+        int value = 0;
+        for (int i = position; i < position + count; i++) {
+            char current = text.charAt(i);
+            if (current < '0' || current > '9') {
+                return -1;
+            }
+
+            value = value * 10 + (current - '0');
+        }
+
+        return value;
+    }
+}
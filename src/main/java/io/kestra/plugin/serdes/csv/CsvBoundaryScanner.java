@@ -0,0 +1,200 @@
+package io.kestra.plugin.serdes.csv;
+
+import io.kestra.core.serializers.FileSerde;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Find record boundaries on raw csv bytes without decoding or parsing fields.
+ * Quotes are handled the same way as FastCSV: a text delimiter only opens a quoted field at the start of a field,
+ * and line breaks inside a quoted field don't end the record.
+ */
+class CsvBoundaryScanner {
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final byte fieldSeparator;
+    private final byte textDelimiter;
+
+    CsvBoundaryScanner(char fieldSeparator, char textDelimiter) {
+        this.fieldSeparator = (byte) fieldSeparator;
+        this.textDelimiter = (byte) textDelimiter;
+    }
+
+    /**
+     * Byte scanning only works when line breaks and delimiters are single bytes that can't appear inside a multibyte character.
+     */
+    static boolean isSupported(Charset charset, char fieldSeparator, char textDelimiter) {
+        boolean asciiCompatible = charset.equals(StandardCharsets.UTF_8) || charset.newEncoder().maxBytesPerChar() == 1;
+
+        return asciiCompatible && fieldSeparator < 128 && textDelimiter < 128;
+    }
+
+    /**
+     * Scan the input, that must start on a record boundary located at {@code offset}, and call the listener at the end of each record.
+     * A CR at the very end of the input is not reported as a record end.
+     *
+     * @return the offset where the scan stopped
+     */
+    long scan(InputStream input, long offset, Listener listener) throws IOException {
+        byte[] buffer = new byte[FileSerde.BUFFER_SIZE];
+        long position = offset;
+        int state = FIELD_START;
+        boolean empty = true;
+        boolean pendingCr = false;
+
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++, position++) {
+                byte current = buffer[i];
+
+                if (pendingCr) {
+                    pendingCr = false;
+
+                    if (current == LF) {
+                        if (!listener.onRecord(position + 1, empty)) {
+                            return position + 1;
+                        }
+
+                        state = FIELD_START;
+                        empty = true;
+                        continue;
+                    }
+
+                    if (!listener.onRecord(position, empty)) {
+                        return position;
+                    }
+
+                    state = FIELD_START;
+                    empty = true;
+                }
+
+                if (state == QUOTED) {
+                    if (current == textDelimiter) {
+                        state = QUOTE_IN_QUOTED;
+                    }
+                    continue;
+                } else if (state == QUOTE_IN_QUOTED) {
+                    if (current == textDelimiter) {
+                        state = QUOTED;
+                        continue;
+                    }
+                    state = UNQUOTED;
+                }
+
+                if (current == LF) {
+                    if (!listener.onRecord(position + 1, empty)) {
+                        return position + 1;
+                    }
+
+                    state = FIELD_START;
+                    empty = true;
+                } else if (current == CR) {
+                    pendingCr = true;
+                } else {
+                    empty = false;
+
+                    if (current == fieldSeparator) {
+                        state = FIELD_START;
+                    } else if (current == textDelimiter && state == FIELD_START) {
+                        state = QUOTED;
+                    } else {
+                        state = UNQUOTED;
+                    }
+                }
+            }
+        }
+
+        // a CR ending the input is not a record end yet, the LF of a CRLF may still be appended
+        return position;
+    }
+
+    /**
+     * Find a record boundary after {@code offset}, which can be anywhere in a record, reading at most {@code window} bytes of the input
+     * located at this offset. Only the quotes tell whether a line feed is inside a quoted field, so the bytes following the first line feed
+     * are scanned both as if it ended a record and as if it was inside a quoted field: once both scans reach the same state,
+     * the next record end doesn't depend on the guess. When they don't agree within the window, like in a file without quotes,
+     * the first line feed is taken as the record end and must be checked by the caller, see {@link #endsOnRecord(InputStream, long, long)}.
+     *
+     * @return the offset of the first byte of the next record, or -1 if there is no line feed in the window
+     */
+    long boundary(InputStream input, long offset, int window) throws IOException {
+        byte[] buffer = new byte[FileSerde.BUFFER_SIZE];
+        long position = offset;
+        long lineEnd = -1;
+        int outside = FIELD_START;
+        int inside = QUOTED;
+
+        int read;
+        while (position - offset < window && (read = input.read(buffer, 0, (int) Math.min(buffer.length, offset + window - position))) != -1) {
+            for (int i = 0; i < read; i++, position++) {
+                byte current = buffer[i];
+
+                if (lineEnd < 0) {
+                    if (current == LF) {
+                        lineEnd = position + 1;
+                    }
+                    continue;
+                }
+
+                if (outside == inside && current == LF && outside != QUOTED) {
+                    return position + 1;
+                }
+
+                outside = this.next(outside, current);
+                inside = this.next(inside, current);
+            }
+        }
+
+        return lineEnd;
+    }
+
+    /**
+     * Whether the input, that must start on a record boundary located at {@code offset}, ends on a record boundary located at {@code end}.
+     */
+    boolean endsOnRecord(InputStream input, long offset, long end) throws IOException {
+        AtomicLong last = new AtomicLong(offset);
+        this.scan(input, offset, (next, empty) -> {
+            last.set(next);
+            return true;
+        });
+
+        return last.get() == end;
+    }
+
+    /**
+     * The quote state after the byte, a CR is handled as a line feed since the quote state is the same after both.
+     */
+    private int next(int state, byte current) {
+        if (state == QUOTED) {
+            return current == textDelimiter ? QUOTE_IN_QUOTED : QUOTED;
+        } else if (state == QUOTE_IN_QUOTED && current == textDelimiter) {
+            return QUOTED;
+        } else if (current == LF || current == CR || current == fieldSeparator) {
+            return FIELD_START;
+        } else if (current == textDelimiter && state == FIELD_START) {
+            return QUOTED;
+        }
+
+        return UNQUOTED;
+    }
+
+    @FunctionalInterface
+    interface Listener {
+        /**
+         * @param next the offset of the first byte of the next record
+         * @param empty whether the record that just ended has no content
+         * @return false to stop the scan
+         */
+        boolean onRecord(long next, boolean empty) throws IOException;
+    }
+}
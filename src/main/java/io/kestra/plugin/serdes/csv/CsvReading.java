@@ -0,0 +1,159 @@
+package io.kestra.plugin.serdes.csv;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import io.kestra.core.serializers.FileSerde;
+import lombok.Builder;
+import reactor.core.publisher.Flux;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.kestra.core.utils.Rethrow.throwPredicate;
+
+/**
+ * The csv reader options of a task, rendered once, shared by {@link CsvToIon} and {@link CsvToParquet} to open the readers,
+ * map the records to rows and infer the column types the same way.
+ *
+ * @param maxRows the maximum number of rows after the skipped rows, {@link Integer#MAX_VALUE} for all
+ * @param rejecting whether malformed records are rejected by the task instead of the reader
+ * @param inferTypesSampleSize the number of rows sampled to infer the types, 0 to keep all values as strings
+ */
+@Builder
+record CsvReading(
+    Charset charset,
+    boolean header,
+    char fieldSeparator,
+    char textDelimiter,
+    boolean skipEmptyRows,
+    boolean errorOnDifferentFieldCount,
+    int skipRows,
+    boolean internValues,
+    int maxRows,
+    boolean rejecting,
+    int inferTypesSampleSize
+) {
+    /**
+     * Open a buffered csv reader on the input, closed with the reader.
+     */
+    CsvReader<CsvRecord> open(InputStream inputStream) {
+        // malformed records are rejected by the task
+        return this.open(inputStream, rejecting || !errorOnDifferentFieldCount);
+    }
+
+    /**
+     * @param ignoreDifferentFieldCount false to fail on records whose field count differs from the first record of the input
+     */
+    CsvReader<CsvRecord> open(InputStream inputStream, boolean ignoreDifferentFieldCount) {
+        return CsvReader.builder()
+            .quoteCharacter(textDelimiter)
+            .fieldSeparator(fieldSeparator)
+            .skipEmptyLines(skipEmptyRows)
+            .ignoreDifferentFieldCount(ignoreDifferentFieldCount)
+            .ofCsvRecord(new BufferedReader(new InputStreamReader(inputStream, charset), FileSerde.BUFFER_SIZE));
+    }
+
+    /**
+     * The fields of the first record of the input, empty if there is none.
+     */
+    List<String> firstFields(InputStream inputStream) throws IOException {
+        try (CsvReader<CsvRecord> csvReader = this.open(inputStream)) {
+            return csvReader.stream()
+                .findFirst()
+                .map(CsvRecord::getFields)
+                .orElse(List.of());
+        }
+    }
+
+    /**
+     * Whether the record boundaries can be found on the raw bytes, see {@link CsvBoundaryScanner#isSupported(Charset, char, char)}.
+     */
+    boolean scannable() {
+        return CsvBoundaryScanner.isSupported(charset, fieldSeparator, textDelimiter);
+    }
+
+    CsvBoundaryScanner scanner() {
+        return new CsvBoundaryScanner(fieldSeparator, textDelimiter);
+    }
+
+    CsvRowMapper mapper(CsvRow.Header header, CsvTypeInference.Type[] types) {
+        return new CsvRowMapper(header, types, internValues);
+    }
+
+    /**
+     * Rows of a reader at the start of the file: the header and the skipped lines are consumed and not emitted,
+     * malformed records are written to the rejects if not null.
+     */
+    Flux<Object> rows(CsvReader<CsvRecord> csvReader, CsvTypeInference.Type[] types, CsvRejects rejects) {
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicReference<CsvRowMapper> mapper = new AtomicReference<>(this.mapper(header ? CsvRow.Header.of(List.of()) : null, types));
+
+        return Flux
+            .fromIterable(csvReader)
+            .filter(csvRecord -> {
+                if (header && csvRecord.getStartingLineNumber() == 1) {
+                    mapper.set(this.mapper(CsvRow.Header.of(csvRecord.getFields()), types));
+                    if (rejects != null) {
+                        rejects.expectedFieldCount(csvRecord.getFieldCount());
+                    }
+                    return false;
+                }
+                if (skipRows > 0 && skipped.get() < skipRows) {
+                    skipped.incrementAndGet();
+                    return false;
+                }
+
+                return true;
+            })
+            .filter(throwPredicate(csvRecord -> rejects == null || rejects.accept(csvRecord)))
+            .map(r -> mapper.get().apply(r))
+            .take(maxRows);
+    }
+
+    /**
+     * Rows of a reader after its first {@code skip} records, malformed records are written to the rejects if not null.
+     */
+    Flux<Object> rows(CsvReader<CsvRecord> csvReader, long skip, CsvRowMapper mapper, CsvRejects rejects) {
+        return Flux
+            .fromIterable(csvReader)
+            .skip(skip)
+            .filter(throwPredicate(csvRecord -> rejects == null || rejects.accept(csvRecord)))
+            .map(mapper);
+    }
+
+    /**
+     * Sample the first rows of the file to infer the type of each column, null if types are not inferred.
+     */
+    CsvTypeInference.Type[] types(InputStream inputStream) throws IOException {
+        return this.types(inputStream, header, skipRows);
+    }
+
+    /**
+     * Sample the rows of the input to infer the type of each column, null if types are not inferred or there is no row.
+     *
+     * @param header whether the record starting at line 1 is a header
+     * @param skip the number of records to skip after the header
+     */
+    CsvTypeInference.Type[] types(InputStream inputStream, boolean header, long skip) throws IOException {
+        if (inferTypesSampleSize <= 0) {
+            return null;
+        }
+
+        try (CsvReader<CsvRecord> csvReader = this.open(inputStream)) {
+            List<List<String>> samples = csvReader.stream()
+                .filter(csvRecord -> !(header && csvRecord.getStartingLineNumber() == 1))
+                .skip(skip)
+                .limit(inferTypesSampleSize)
+                .map(CsvRecord::getFields)
+                .toList();
+
+            return samples.isEmpty() ? null : CsvTypeInference.infer(samples);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.kestra.plugin.serdes.csv;
+
+import de.siegmar.fastcsv.reader.CsvRecord;
+import io.kestra.core.serializers.FileSerde;
+
+import java.io.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Check the field count of csv records and write the malformed ones to a rejects ion file, up to {@code maxErrors} records.
+ * The expected field count is the one of the header, or of the first record if there is no header.
+ */
+class CsvRejects implements Closeable {
+    private final OutputStream output;
+    private final int maxErrors;
+    private final char fieldSeparator;
+    private final char textDelimiter;
+    private int expectedFieldCount = -1;
+    private long count = 0;
+
+    CsvRejects(File file, int maxErrors, char fieldSeparator, char textDelimiter) throws IOException {
+        this.output = new BufferedOutputStream(new FileOutputStream(file), FileSerde.BUFFER_SIZE);
+        this.maxErrors = maxErrors;
+        this.fieldSeparator = fieldSeparator;
+        this.textDelimiter = textDelimiter;
+    }
+
+    void expectedFieldCount(int expectedFieldCount) {
+        this.expectedFieldCount = expectedFieldCount;
+    }
+
+    /**
+     * @return true if the record is valid, false if it was rejected
+     * @throws IllegalArgumentException if there are more than {@code maxErrors} malformed records
+     */
+    boolean accept(CsvRecord record) throws IOException {
+        if (expectedFieldCount < 0) {
+            expectedFieldCount = record.getFieldCount();
+        }
+
+        if (record.getFieldCount() == expectedFieldCount) {
+            return true;
+        }
+
+        if (++count > maxErrors) {
+            throw new IllegalArgumentException(
+                "Too many malformed records, more than " + maxErrors + ", the last one at line " + record.getStartingLineNumber() +
+                    " has " + record.getFieldCount() + " fields instead of " + expectedFieldCount
+            );
+        }
+
+        Map<String, Object> reject = new LinkedHashMap<>();
+        reject.put("line", record.getStartingLineNumber());
+        reject.put("text", this.text(record));
+        reject.put("fieldCount", record.getFieldCount());
+        reject.put("expectedFieldCount", expectedFieldCount);
+        FileSerde.write(output, reject);
+
+        return false;
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * The record text rebuilt from its fields, quoting the fields that need it, as the parser doesn't keep the source characters.
+     */
+    private String text(CsvRecord record) {
+        StringBuilder text = new StringBuilder();
+        String delimiter = String.valueOf(textDelimiter);
+
+        for (int i = 0; i < record.getFieldCount(); i++) {
+            if (i > 0) {
+                text.append(fieldSeparator);
+            }
+
+            String field = record.getField(i);
+            if (field.indexOf(fieldSeparator) >= 0 || field.indexOf(textDelimiter) >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                text.append(textDelimiter).append(field.replace(delimiter, delimiter + delimiter)).append(textDelimiter);
+            } else {
+                text.append(field);
+            }
+        }
+
+        return text.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+}
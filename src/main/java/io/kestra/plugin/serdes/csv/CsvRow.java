@@ -0,0 +1,179 @@
+package io.kestra.plugin.serdes.csv;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import de.siegmar.fastcsv.reader.CsvRecord;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * A read-only row backed by an array of values, the column names are stored once in a {@link Header} shared by all the rows of a file.
+ * Lookups use the header index and serialization writes the values in order without creating any entry.
+ */
+@JsonSerialize(using = CsvRow.Serializer.class)
+public final class CsvRow extends AbstractMap<String, Object> {
+    private final Header header;
+    private final Object[] values;
+
+    CsvRow(Header header, Object[] values) {
+        this.header = header;
+        this.values = values;
+    }
+
+    public Header header() {
+        return header;
+    }
+
+    /**
+     * Value of the column at the given position in the header.
+     */
+    public Object value(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Object get(Object key) {
+        Integer index = header.positions.get(key);
+
+        return index == null ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return header.positions.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (index >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(header.names[index], values[index]);
+                        index++;
+
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    public static final class Header {
+        private final String[] names;
+        private final int[] columns;
+        private final Map<String, Integer> positions;
+
+        private Header(String[] names, int[] columns, Map<String, Integer> positions) {
+            this.names = names;
+            this.columns = columns;
+            this.positions = positions;
+        }
+
+        /**
+         * Build the header from the csv header fields, a duplicated name keeps its first position and the value of its last column.
+         */
+        public static Header of(List<String> fields) {
+            Map<String, Integer> positions = new HashMap<>();
+            List<String> names = new ArrayList<>();
+            List<Integer> columns = new ArrayList<>();
+
+            for (int i = 0; i < fields.size(); i++) {
+                Integer position = positions.get(fields.get(i));
+
+                if (position == null) {
+                    positions.put(fields.get(i), names.size());
+                    names.add(fields.get(i));
+                    columns.add(i);
+                } else {
+                    columns.set(position, i);
+                }
+            }
+
+            return new Header(
+                names.toArray(String[]::new),
+                columns.stream().mapToInt(Integer::intValue).toArray(),
+                positions
+            );
+        }
+
+        public List<String> names() {
+            return List.of(names);
+        }
+
+        public int size() {
+            return names.length;
+        }
+
+        /**
+         * Csv column index of the value at the given position.
+         */
+        public int column(int index) {
+            return columns[index];
+        }
+
+        public CsvRow row(CsvRecord record) {
+            Object[] values = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = record.getField(columns[i]);
+            }
+
+            return new CsvRow(this, values);
+        }
+
+        public CsvRow row(Object[] values) {
+            return new CsvRow(this, values);
+        }
+    }
+
+    public static class Serializer extends StdSerializer<CsvRow> {
+        public Serializer() {
+            super(CsvRow.class);
+        }
+
+        @Override
+        public void serialize(CsvRow row, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject(row);
+
+            String[] names = row.header.names;
+            for (int i = 0; i < names.length; i++) {
+                generator.writeFieldName(names[i]);
+
+                Object value = row.values[i];
+                if (value instanceof String string) {
+                    generator.writeString(string);
+                } else {
+                    provider.defaultSerializeValue(value, generator);
+                }
+            }
+
+            generator.writeEndObject();
+        }
+    }
+}
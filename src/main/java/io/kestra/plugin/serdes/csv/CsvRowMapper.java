@@ -0,0 +1,114 @@
+package io.kestra.plugin.serdes.csv;
+
+import de.siegmar.fastcsv.reader.CsvRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Convert a csv record to the row written in the ion file: a {@link CsvRow} when there is a header, a list of values otherwise.
+ * Mappers hold no shared mutable state, each thread parsing a range uses its own instance.
+ */
+class CsvRowMapper implements Function<CsvRecord, Object> {
+    /**
+     * Distinct values of a column above which the column is no longer interned.
+     */
+    static final int INTERN_MAX_CARDINALITY = 1024;
+
+    private final CsvRow.Header header;
+    private final CsvTypeInference.Type[] types;
+    private Interner[] interners;
+
+    /**
+     * @param header the shared header, null if the file has no header
+     * @param types the type of each csv column, null to keep all values as strings
+     * @param intern whether string values of low cardinality columns share the same instance
+     */
+    CsvRowMapper(CsvRow.Header header, CsvTypeInference.Type[] types, boolean intern) {
+        this.header = header;
+        this.types = types;
+        this.interners = intern ? new Interner[0] : null;
+    }
+
+    @Override
+    public Object apply(CsvRecord record) {
+        if (header != null) {
+            if (types == null && interners == null) {
+                return header.row(record);
+            }
+
+            Object[] values = new Object[header.size()];
+            for (int i = 0; i < values.length; i++) {
+                int column = header.column(i);
+                values[i] = this.value(column, record.getField(column));
+            }
+
+            return header.row(values);
+        }
+
+        if (types == null && interners == null) {
+            return record.getFields();
+        }
+
+        List<Object> values = new ArrayList<>(record.getFieldCount());
+        for (int i = 0; i < record.getFieldCount(); i++) {
+            values.add(this.value(i, record.getField(i)));
+        }
+
+        return values;
+    }
+
+    private Object value(int column, String value) {
+        Object converted = types == null || column >= types.length ? value : CsvTypeInference.convert(types[column], value);
+
+        if (interners != null && converted instanceof String string) {
+            return this.interner(column).intern(string);
+        }
+
+        return converted;
+    }
+
+    private Interner interner(int column) {
+        if (column >= interners.length) {
+            interners = Arrays.copyOf(interners, column + 1);
+        }
+
+        if (interners[column] == null) {
+            interners[column] = new Interner();
+        }
+
+        return interners[column];
+    }
+
+    /**
+     * Intern cache of a single column, disabled and cleared once the column has more than {@link #INTERN_MAX_CARDINALITY} distinct values.
+     */
+    static final class Interner {
+        private Map<String, String> values = new HashMap<>();
+
+        String intern(String value) {
+            if (values == null) {
+                return value;
+            }
+
+            String existing = values.putIfAbsent(value, value);
+            if (existing != null) {
+                return existing;
+            }
+
+            if (values.size() > INTERN_MAX_CARDINALITY) {
+                values = null;
+            }
+
+            return value;
+        }
+
+        boolean isEnabled() {
+            return values != null;
+        }
+    }
+}
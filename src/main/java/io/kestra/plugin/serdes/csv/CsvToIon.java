@@ -1,5 +1,6 @@
 package io.kestra.plugin.serdes.csv;
 
+import de.siegmar.fastcsv.reader.CsvReader;
 import de.siegmar.fastcsv.reader.CsvRecord;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
@@ -11,6 +12,9 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.plugin.serdes.ByteRange;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -20,11 +24,14 @@ import reactor.core.publisher.Mono;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.TreeMap;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @SuperBuilder
 @ToString
@@ -57,6 +64,9 @@ import java.util.concurrent.atomic.AtomicInteger;
     aliases = "io.kestra.plugin.serdes.csv.CsvReader"
 )
 public class CsvToIon extends Task implements RunnableTask<CsvToIon.Output> {
+    // bytes read after each split target of the parallel parsing to find a record boundary
+    private static final int BOUNDARY_WINDOW = 1024 * 1024;
+
     @NotNull
     @Schema(
         title = "Source file URI")
@@ -104,6 +114,80 @@ public class CsvToIon extends Task implements RunnableTask<CsvToIon.Output> {
     )
     private final Property<String> charset = Property.of(StandardCharsets.UTF_8.name());
 
+    @Builder.Default
+    @Schema(
+        title = "Number of threads used to parse the file",
+        description = "When greater than 1, the file is split into byte ranges aligned on record boundaries that are parsed concurrently, " +
+            "rows are written in the original order.\n" +
+            "Only supported with UTF-8 or single-byte charsets, other charsets are parsed on a single thread."
+    )
+    private final Property<Integer> parallelism = Property.of(1);
+
+    @Builder.Default
+    @Schema(
+        title = "Whether to convert values to typed values",
+        description = "The first rows, up to `inferTypesSampleSize`, are sampled to choose a type for each column " +
+            "(long, double, decimal, boolean, date or timestamp) and values are written as native ion values of this type. " +
+            "A cell that doesn't match the type of its column is kept as a string, as well as empty cells.\n" +
+            "Dates must use the `yyyy-MM-dd` format and timestamps the ISO-8601 `yyyy-MM-dd'T'HH:mm:ss` format with an optional fraction and offset."
+    )
+    private final Property<Boolean> inferTypes = Property.of(false);
+
+    @Builder.Default
+    @Schema(
+        title = "Number of rows sampled to infer the type of each column"
+    )
+    private final Property<Integer> inferTypesSampleSize = Property.of(1000);
+
+    @Builder.Default
+    @Schema(
+        title = "Whether repeated string values of a column share the same instance",
+        description = "Reduces memory usage for low cardinality columns such as countries or statuses. " +
+            "Interning stops for a column once it has more than 1024 distinct values."
+    )
+    private final Property<Boolean> internValues = Property.of(false);
+
+    @Schema(
+        title = "Number of rows between two entries of the row index",
+        description = "When set, an index of the byte offset of every `indexInterval` rows is written to the `index` output. " +
+            "The index can be used with the `index` property on a later run on the same file to start parsing at the requested rows.\n" +
+            "Only supported with UTF-8 or single-byte charsets."
+    )
+    private Property<Integer> indexInterval;
+
+    @Schema(
+        title = "URI of a row index written by a previous run on the same file",
+        description = "Parsing starts at the closest indexed row before `skipRows` instead of the start of the file. " +
+            "The index must have been written with the same `header` and `skipEmptyRows` options, " +
+            "the file is then parsed on a single thread."
+    )
+    private Property<String> index;
+
+    @Schema(
+        title = "Maximum number of rows to read after the skipped rows",
+        description = "When set, the file is parsed on a single thread."
+    )
+    private Property<Integer> maxRows;
+
+    @Schema(
+        title = "Key of the KV store entry used to read only the records appended since the previous run",
+        description = "When set, the byte offset after the last complete record and the header are saved in the KV store of the flow namespace. " +
+            "The next run only parses the bytes after this offset and the header is taken from the saved state, " +
+            "a last line without a line break is left for the next run as it may still be written.\n" +
+            "If the file is shorter than the saved offset, it is read again from the start.\n" +
+            "Only supported with UTF-8 or single-byte charsets, `skipRows` only applies to the first run and `parallelism`, `index` and `maxRows` are ignored."
+    )
+    private Property<String> stateKey;
+
+    @Schema(
+        title = "Maximum number of malformed records written to the `rejects` output before failing",
+        description = "When set, records with a field count different from the header, or from the first record if there is no header, " +
+            "are written to the `rejects` output with their line number and text instead of the converted file, " +
+            "and the task fails only once there are more than `maxErrors` of them. `errorOnDifferentFieldCount` is then ignored.\n" +
+            "With `index` or `stateKey`, line numbers are relative to the first parsed byte. When set, the file is parsed on a single thread."
+    )
+    private Property<Integer> maxErrors;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         // reader
@@ -113,63 +197,451 @@ public class CsvToIon extends Task implements RunnableTask<CsvToIon.Output> {
         File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
 
         // configuration
-        AtomicInteger skipped = new AtomicInteger();
+        CsvReading reading = this.reading(runContext);
+        var indexIntervalValue = runContext.render(this.indexInterval).as(Integer.class);
+        var maxErrorsValue = runContext.render(this.maxErrors).as(Integer.class);
+
+        File rejectsFile = null;
+        CsvRejects rejects = null;
+        if (maxErrorsValue.isPresent()) {
+            rejectsFile = runContext.workingDir().createTempFile(".ion").toFile();
+            rejects = new CsvRejects(rejectsFile, maxErrorsValue.get(), reading.fieldSeparator(), reading.textDelimiter());
+        }
+
+        Long lineCount;
+        try {
+            lineCount = this.read(runContext, from, tempFile, reading, rejects);
+        } finally {
+            if (rejects != null) {
+                rejects.close();
+            }
+        }
+
+        // index
+        URI indexUri = null;
+        if (indexIntervalValue.isPresent()) {
+            if (!reading.scannable()) {
+                throw new IllegalArgumentException("Row index is not supported with charset '" + reading.charset() + "' and these delimiters");
+            }
+
+            File indexFile = runContext.workingDir().createTempFile(".ion").toFile();
+            this.writeIndex(runContext, from, indexFile, reading, indexIntervalValue.get());
+            indexUri = runContext.storage().putFile(indexFile);
+        }
+
+        // metrics
+        runContext.metric(Counter.of("records", lineCount));
+        if (rejects != null) {
+            runContext.metric(Counter.of("rejects", rejects.count()));
+        }
+
+        return Output
+            .builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .index(indexUri)
+            .rejects(rejectsFile == null ? null : runContext.storage().putFile(rejectsFile))
+            .build();
+    }
+
+    private Long read(RunContext runContext, URI from, File tempFile, CsvReading reading, CsvRejects rejects) throws Exception {
+        var parallelismValue = runContext.render(this.parallelism).as(Integer.class).orElseThrow();
+        var indexValue = runContext.render(this.index).as(String.class).map(URI::create);
+        var stateKeyValue = runContext.render(this.stateKey).as(String.class);
+        boolean sequential = reading.maxRows() != Integer.MAX_VALUE || rejects != null;
+        boolean scannable = reading.scannable();
+
+        if (stateKeyValue.isPresent()) {
+            if (!scannable) {
+                throw new IllegalArgumentException("Incremental reading is not supported with charset '" + reading.charset() + "' and these delimiters");
+            }
+
+            return this.readTail(runContext, from, stateKeyValue.get(), tempFile, reading, rejects);
+        } else if (indexValue.isPresent()) {
+            return this.readIndexed(runContext, from, indexValue.get(), tempFile, reading, rejects);
+        } else if (parallelismValue > 1 && !sequential && scannable) {
+            return this.readParallel(runContext, from, tempFile, reading, parallelismValue);
+        }
+
+        if (parallelismValue > 1 && !sequential) {
+            runContext.logger().warn("Parallel parsing is not supported with charset '{}' and these delimiters, the file will be parsed on a single thread", reading.charset());
+        }
+
+        return this.readSequential(runContext, from, tempFile, reading, rejects);
+    }
 
+    private Long readSequential(RunContext runContext, URI from, File tempFile, CsvReading reading, CsvRejects rejects) throws Exception {
         try (
-            Reader reader = new BufferedReader(
-                new InputStreamReader(
-                    runContext.storage().getFile(from),
-                    runContext.render(charset).as(String.class).orElseThrow()
-                ),
-                FileSerde.BUFFER_SIZE);
-            de.siegmar.fastcsv.reader.CsvReader<CsvRecord> csvReader = this.csvReader(reader, runContext);
+            CsvReader<CsvRecord> csvReader = reading.open(runContext.storage().getFile(from));
             Writer output = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)
         ) {
-            var headerValue = runContext.render(header).as(Boolean.class).orElseThrow();
-            var skipRowsValue = runContext.render(this.skipRows).as(Integer.class).orElseThrow();
-            Map<Integer, String> headers = new TreeMap<>();
-            Flux<Object> flowable = Flux
-                .fromIterable(csvReader)
-                .filter(csvRecord -> {
-                    if (headerValue && csvRecord.getStartingLineNumber() == 1) {
-                        for (int i = 0; i < csvRecord.getFieldCount(); i++) {
-                            headers.put(i, csvRecord.getField(i));
-                        }
-                        return false;
-                    }
-                    if (skipRowsValue > 0 && skipped.get() < skipRowsValue) {
-                        skipped.incrementAndGet();
-                        return false;
-                    }
-
-                    return true;
-                })
-                .map(r -> {
-                    if (headerValue) {
-                        Map<String, Object> fields = new LinkedHashMap<>();
-                        for (Map.Entry<Integer, String> header : headers.entrySet()) {
-                            fields.put(header.getValue(), r.getField(header.getKey()));
-                        }
-                        return fields;
-                    }
-                    return r.getFields();
-                });
+            Flux<Object> flowable = reading.rows(csvReader, reading.types(runContext.storage().getFile(from)), rejects);
 
             Mono<Long> count = FileSerde.writeAll(output, flowable);
 
-            // metrics & finalize
+            // finalize
             Long lineCount = count.block();
-            runContext.metric(Counter.of("records", lineCount));
 
             output.flush();
+
+            return lineCount;
         }
+    }
 
-        return Output
-            .builder()
-            .uri(runContext.storage().putFile(tempFile))
+    /**
+     * The reader options, shared with {@link CsvToParquet}.
+     */
+    private CsvReading reading(RunContext runContext) throws IllegalVariableEvaluationException {
+        return CsvReading.builder()
+            .charset(Charset.forName(runContext.render(this.charset).as(String.class).orElseThrow()))
+            .header(runContext.render(this.header).as(Boolean.class).orElseThrow())
+            .fieldSeparator(runContext.render(this.fieldSeparator).as(Character.class).orElse(','))
+            .textDelimiter(runContext.render(this.textDelimiter).as(Character.class).orElse('"'))
+            .skipEmptyRows(runContext.render(this.skipEmptyRows).as(Boolean.class).orElseThrow())
+            .errorOnDifferentFieldCount(runContext.render(this.errorOnDifferentFieldCount).as(Boolean.class).orElseThrow())
+            .skipRows(runContext.render(this.skipRows).as(Integer.class).orElseThrow())
+            .internValues(runContext.render(this.internValues).as(Boolean.class).orElseThrow())
+            .maxRows(runContext.render(this.maxRows).as(Integer.class).orElse(Integer.MAX_VALUE))
+            .rejecting(runContext.render(this.maxErrors).as(Integer.class).isPresent())
+            .inferTypesSampleSize(runContext.render(this.inferTypes).as(Boolean.class).orElseThrow() ?
+                runContext.render(this.inferTypesSampleSize).as(Integer.class).orElseThrow() :
+                0
+            )
             .build();
     }
 
+    /**
+     * Parse the rows requested by {@code skipRows} and {@code maxRows} starting at the closest indexed row instead of the start of the file.
+     */
+    private Long readIndexed(RunContext runContext, URI from, URI index, File tempFile, CsvReading reading, CsvRejects rejects) throws Exception {
+        var headerValue = reading.header();
+        var skipRowsValue = reading.skipRows();
+
+        // closest indexed row before the first requested row
+        long row = 0;
+        long offset = -1;
+        try (Reader reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(index), StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE)) {
+            for (Object entry : FileSerde.readAll(reader).toIterable()) {
+                Map<?, ?> casted = (Map<?, ?>) entry;
+                long entryRow = ((Number) casted.get("row")).longValue();
+
+                if (entryRow > skipRowsValue) {
+                    break;
+                }
+
+                row = entryRow;
+                offset = ((Number) casted.get("offset")).longValue();
+            }
+        }
+
+        if (offset < 0) {
+            throw new IllegalArgumentException("Invalid row index '" + index + "', no entry for row 0");
+        }
+
+        // header
+        CsvRow.Header headers = null;
+        if (headerValue) {
+            List<String> headerFields = reading.firstFields(runContext.storage().getFile(from));
+
+            headers = CsvRow.Header.of(headerFields);
+            if (rejects != null) {
+                rejects.expectedFieldCount(headerFields.size());
+            }
+        }
+
+        long skip = skipRowsValue - row;
+        var types = reading.types(this.open(runContext, from, offset), false, skip);
+
+        try (
+            CsvReader<CsvRecord> csvReader = reading.open(this.open(runContext, from, offset));
+            Writer output = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)
+        ) {
+            Flux<Object> flowable = reading.rows(csvReader, skip, reading.mapper(headers, types), rejects)
+                .take(reading.maxRows());
+
+            Long lineCount = FileSerde.writeAll(output, flowable).block();
+
+            output.flush();
+
+            return lineCount;
+        }
+    }
+
+    /**
+     * Parse the complete records appended since the offset saved in the KV store, and save the new offset.
+     */
+    @SuppressWarnings("unchecked")
+    private Long readTail(RunContext runContext, URI from, String stateKey, File tempFile, CsvReading reading, CsvRejects rejects) throws Exception {
+        var headerValue = reading.header();
+        var skipRowsValue = reading.skipRows();
+        var inferTypesValue = reading.inferTypesSampleSize() > 0;
+        CsvBoundaryScanner scanner = reading.scanner();
+
+        KVStore kvStore = runContext.namespaceKv(runContext.flowInfo().namespace());
+        Map<String, Object> state = kvStore.getValue(stateKey)
+            .map(kvValue -> (Map<String, Object>) kvValue.value())
+            .orElse(Map.of());
+
+        long offset = state.containsKey("offset") ? ((Number) state.get("offset")).longValue() : 0L;
+        List<String> headerFields = (List<String>) state.get("header");
+        List<String> savedHeaderFields = headerFields;
+        // saved types are only reused while inference is enabled
+        CsvTypeInference.Type[] types = inferTypesValue && state.containsKey("types") ?
+            ((List<String>) state.get("types")).stream().map(CsvTypeInference.Type::valueOf).toArray(CsvTypeInference.Type[]::new) :
+            null;
+
+        // copy the bytes appended since the previous run
+        File tail = runContext.workingDir().createTempFile(".csv").toFile();
+        try (InputStream inputStream = runContext.storage().getFile(from)) {
+            inputStream.skipNBytes(offset);
+            Files.copy(inputStream, tail.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (EOFException e) {
+            runContext.logger().warn("File is shorter than the saved offset {}, it is read again from the start", offset);
+
+            offset = 0;
+            headerFields = null;
+            types = null;
+            try (InputStream inputStream = runContext.storage().getFile(from)) {
+                Files.copy(inputStream, tail.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // only parse complete records, a last line without line break may still be written
+        AtomicLong end = new AtomicLong();
+        try (InputStream inputStream = new FileInputStream(tail)) {
+            scanner.scan(inputStream, 0, (next, empty) -> {
+                end.set(next);
+                return true;
+            });
+        }
+        ByteRange range = new ByteRange(0, end.get());
+        boolean start = offset == 0;
+
+        // on the first run, the header and the skipped rows are at the start of the tail
+        int leadingRows = start ? skipRowsValue : 0;
+        if (start && headerValue) {
+            try (CsvReader<CsvRecord> csvReader = reading.open(range.open(tail))) {
+                headerFields = csvReader.stream()
+                    .findFirst()
+                    .filter(r -> r.getStartingLineNumber() == 1)
+                    .map(CsvRecord::getFields)
+                    .orElse(null);
+            }
+        }
+
+        // the types inferred for another header are inferred again
+        if (types != null && (!Objects.equals(headerFields, savedHeaderFields) || (headerFields != null && types.length != headerFields.size()))) {
+            types = null;
+        }
+
+        if (types == null) {
+            types = reading.types(range.open(tail), start && headerFields != null, leadingRows);
+        }
+
+        if (rejects != null && headerFields != null) {
+            rejects.expectedFieldCount(headerFields.size());
+        }
+
+        CsvRowMapper mapper = reading.mapper(headerValue ? CsvRow.Header.of(headerFields == null ? List.of() : headerFields) : null, types);
+        Long lineCount;
+        try (
+            CsvReader<CsvRecord> csvReader = reading.open(range.open(tail));
+            Writer output = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)
+        ) {
+            Flux<Object> flowable = reading.rows(csvReader, (start && headerFields != null ? 1 : 0) + leadingRows, mapper, rejects);
+
+            lineCount = FileSerde.writeAll(output, flowable).block();
+
+            output.flush();
+        }
+
+        Files.delete(tail.toPath());
+
+        // save the state once the records are written
+        Map<String, Object> newState = new LinkedHashMap<>();
+        newState.put("offset", offset + end.get());
+        if (headerFields != null) {
+            newState.put("header", headerFields);
+        }
+        if (types != null && inferTypesValue) {
+            newState.put("types", Arrays.stream(types).map(Enum::name).toList());
+        }
+        kvStore.put(stateKey, new KVValueAndMetadata(null, newState));
+
+        return lineCount;
+    }
+
+    private InputStream open(RunContext runContext, URI from, long offset) throws IOException {
+        InputStream inputStream = runContext.storage().getFile(from);
+        inputStream.skipNBytes(offset);
+
+        return inputStream;
+    }
+
+    /**
+     * Write the byte offset of the first row and of every {@code interval} rows, rows are numbered from 0 after the header.
+     */
+    private void writeIndex(RunContext runContext, URI from, File indexFile, CsvReading reading, int interval) throws Exception {
+        var headerValue = reading.header();
+        var skipEmptyRowsValue = reading.skipEmptyRows();
+        CsvBoundaryScanner scanner = reading.scanner();
+
+        try (
+            InputStream inputStream = new BufferedInputStream(runContext.storage().getFile(from), FileSerde.BUFFER_SIZE);
+            OutputStream output = new BufferedOutputStream(new FileOutputStream(indexFile), FileSerde.BUFFER_SIZE)
+        ) {
+            AtomicBoolean headerRead = new AtomicBoolean(!headerValue);
+            AtomicLong rows = new AtomicLong();
+
+            if (!headerValue) {
+                FileSerde.write(output, this.indexEntry(0, 0));
+            }
+
+            scanner.scan(inputStream, 0, (next, empty) -> {
+                if (skipEmptyRowsValue && empty) {
+                    return true;
+                }
+
+                if (!headerRead.get()) {
+                    headerRead.set(true);
+                    FileSerde.write(output, this.indexEntry(0, next));
+                } else if (rows.incrementAndGet() % interval == 0) {
+                    FileSerde.write(output, this.indexEntry(rows.get(), next));
+                }
+
+                return true;
+            });
+
+            output.flush();
+        }
+    }
+
+    private Map<String, Object> indexEntry(long row, long offset) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("row", row);
+        entry.put("offset", offset);
+
+        return entry;
+    }
+
+    private Long readParallel(RunContext runContext, URI from, File tempFile, CsvReading reading, int parallelism) throws Exception {
+        // byte ranges need random access on the source
+        File source = runContext.workingDir().createTempFile(".csv").toFile();
+        try (InputStream inputStream = runContext.storage().getFile(from)) {
+            Files.copy(inputStream, source.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        var headerValue = reading.header();
+        var skipEmptyRowsValue = reading.skipEmptyRows();
+        CsvBoundaryScanner scanner = reading.scanner();
+
+        // the first record and the data start, only the leading records are scanned
+        long length = source.length();
+        int leadingRecords = (headerValue ? 1 : 0) + reading.skipRows();
+        AtomicLong firstEnd = new AtomicLong(length);
+        AtomicLong dataStart = new AtomicLong(leadingRecords == 0 ? 0 : length);
+
+        try (InputStream inputStream = new FileInputStream(source)) {
+            AtomicInteger records = new AtomicInteger();
+
+            scanner.scan(inputStream, 0, (next, empty) -> {
+                if (skipEmptyRowsValue && empty) {
+                    return true;
+                }
+
+                int record = records.incrementAndGet();
+                if (record == 1) {
+                    firstEnd.set(next);
+                }
+                if (record == leadingRecords) {
+                    dataStart.set(next);
+                }
+
+                return record < Math.max(leadingRecords, 1);
+            });
+        }
+
+        // the header and the field count every range is checked against, like the reader does with the first record
+        List<String> firstFields = reading.firstFields(new ByteRange(0, firstEnd.get()).open(source));
+        CsvRow.Header headers = headerValue ? CsvRow.Header.of(firstFields) : null;
+        int expectedFieldCount = reading.errorOnDifferentFieldCount() && !firstFields.isEmpty() ? firstFields.size() : -1;
+        var types = reading.types(new FileInputStream(source));
+
+        // the record boundaries closest to evenly sized chunks, each found in a window after its target
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(dataStart.get());
+        for (int i = 1; i < parallelism; i++) {
+            long target = dataStart.get() + (length - dataStart.get()) * i / parallelism;
+
+            long boundary;
+            try (InputStream inputStream = new ByteRange(target, length).open(source)) {
+                boundary = scanner.boundary(inputStream, target, BOUNDARY_WINDOW);
+            }
+            if (boundary < 0) {
+                boundary = ByteRange.nextLine(source, target);
+            }
+
+            boundaries.add(Math.max(boundary, boundaries.getLast()));
+        }
+        boundaries.add(length);
+
+        // parse each range in its own file
+        List<ByteRange> ranges = ByteRange.of(boundaries);
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            files.add(runContext.workingDir().createTempFile(".ion").toFile());
+        }
+
+        List<Long> counts = ByteRange.map(ranges.size(), parallelism, index -> {
+            ByteRange range = ranges.get(index);
+
+            // a boundary guessed without quotes in its window may be inside a quoted field, the range before it tells
+            if (index < ranges.size() - 1) {
+                try (InputStream inputStream = new BufferedInputStream(range.open(source), FileSerde.BUFFER_SIZE)) {
+                    if (!scanner.endsOnRecord(inputStream, range.start(), range.end())) {
+                        return -1L;
+                    }
+                }
+            }
+
+            try (
+                CsvReader<CsvRecord> csvReader = reading.open(range.open(source), true);
+                Writer output = new BufferedWriter(new FileWriter(files.get(index)), FileSerde.BUFFER_SIZE)
+            ) {
+                Flux<Object> flowable = Flux
+                    .fromIterable(csvReader)
+                    .doOnNext(csvRecord -> {
+                        if (expectedFieldCount >= 0 && csvRecord.getFieldCount() != expectedFieldCount) {
+                            throw new IllegalArgumentException(
+                                "Record has " + csvRecord.getFieldCount() + " fields, but first record had " + expectedFieldCount + " fields"
+                            );
+                        }
+                    })
+                    .map(reading.mapper(headers, types));
+
+                Long count = FileSerde.writeAll(output, flowable).block();
+                output.flush();
+
+                return count;
+            }
+        });
+
+        Long lineCount = null;
+        if (counts.contains(-1L)) {
+            runContext.logger().warn("A line break inside a quoted field was taken for a record end, the file will be parsed on a single thread");
+        } else {
+            // merge in original order
+            ByteRange.concat(files, tempFile);
+            lineCount = counts.stream().mapToLong(Long::longValue).sum();
+        }
+
+        for (File file : files) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(source.toPath());
+
+        return lineCount != null ? lineCount : this.readSequential(runContext, from, tempFile, reading, null);
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -177,23 +649,17 @@ public class CsvToIon extends Task implements RunnableTask<CsvToIon.Output> {
             title = "URI of a temporary result file"
         )
         private URI uri;
-    }
-
-    private de.siegmar.fastcsv.reader.CsvReader<CsvRecord> csvReader(Reader reader, RunContext runContext) throws IllegalVariableEvaluationException {
-        var builder = de.siegmar.fastcsv.reader.CsvReader.builder();
-
-        runContext.render(textDelimiter).as(Character.class)
-            .ifPresent(builder::quoteCharacter);
-
-        runContext.render(fieldSeparator).as(Character.class)
-            .ifPresent(builder::fieldSeparator);
 
-        runContext.render(skipEmptyRows).as(Boolean.class)
-            .ifPresent(builder::skipEmptyLines);
-
-        runContext.render(errorOnDifferentFieldCount).as(Boolean.class)
-            .ifPresent(b -> builder.ignoreDifferentFieldCount(!b));
+        @Schema(
+            title = "URI of the row index",
+            description = "Only set when `indexInterval` is set."
+        )
+        private URI index;
 
-        return builder.ofCsvRecord(reader);
+        @Schema(
+            title = "URI of the malformed records",
+            description = "Only set when `maxErrors` is set, each record has its `line`, `text`, `fieldCount` and `expectedFieldCount`."
+        )
+        private URI rejects;
     }
 }
@@ -0,0 +1,210 @@
+package io.kestra.plugin.serdes.csv;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.serdes.parquet.AbstractParquetConverter;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.parquet.hadoop.ParquetWriter;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@io.swagger.v3.oas.annotations.media.Schema(
+    title = "Read a csv file and write it to a parquet file.",
+    description = "Equivalent to a `CsvToIon` followed by an `IonToParquet` without the intermediate ion file: " +
+        "csv records are converted to avro records and written to the parquet file while the csv is read.\n" +
+        "The csv is parsed on a single thread, `parallelism` applies to the avro conversion, and values are kept as strings " +
+        "for the avro schema to type them, so `CsvToIon` options to parse in parallel or to infer types are not available."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Convert a CSV file to the Parquet format.",
+            code = """
+                id: csv_to_parquet
+                namespace: company.team
+
+                tasks:
+                  - id: http_download
+                    type: io.kestra.plugin.core.http.Download
+                    uri: https://huggingface.co/datasets/kestra/datasets/raw/main/csv/products.csv
+
+                  - id: to_parquet
+                    type: io.kestra.plugin.serdes.csv.CsvToParquet
+                    from: "{{ outputs.http_download.uri }}"
+                    schema: |
+                      {
+                        "type": "record",
+                        "name": "Product",
+                        "namespace": "com.example.product",
+                        "fields": [
+                          {"name": "product_id", "type": "int"},
+                          {"name": "product_name", "type": "string"},
+                          {"name": "product_category", "type": "string"},
+                          {"name": "brand", "type": "string"}
+                        ]
+                      }
+                """
+        )
+    }
+)
+public class CsvToParquet extends AbstractParquetConverter implements RunnableTask<CsvToParquet.Output> {
+    @NotNull
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Source file URI"
+    )
+    private Property<String> from;
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Specifies if the first line should be the header"
+    )
+    private final Property<Boolean> header = Property.of(true);
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "The field separator character"
+    )
+    private final Property<Character> fieldSeparator = Property.of(',');
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "The text delimiter character"
+    )
+    private final Property<Character> textDelimiter = Property.of('"');
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Specifies if empty rows should be skipped"
+    )
+    private final Property<Boolean> skipEmptyRows = Property.of(false);
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Specifies if an exception should be thrown, if CSV data contains different field count"
+    )
+    private final Property<Boolean> errorOnDifferentFieldCount = Property.of(false);
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Number of lines to skip at the start of the file"
+    )
+    private final Property<Integer> skipRows = Property.of(0);
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "The name of a supported charset"
+    )
+    private final Property<String> charset = Property.of(StandardCharsets.UTF_8.name());
+
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Maximum number of rows to read after the skipped rows"
+    )
+    private Property<Integer> maxRows;
+
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Maximum number of malformed records written to the `rejects` output before failing",
+        description = "When set, records with a field count different from the header, or from the first record if there is no header, " +
+            "are written to the `rejects` output with their line number and text instead of the parquet file, " +
+            "and the task fails only once there are more than `maxErrors` of them. `errorOnDifferentFieldCount` is then ignored."
+    )
+    private Property<Integer> maxErrors;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        File tempFile = this.parquetTempFile(runContext);
+
+        // avro options
+        Schema.Parser parser = new Schema.Parser();
+        Schema schema = parser.parse(runContext.render(this.schema));
+
+        // reader
+        URI from = new URI(runContext.render(this.from).as(String.class).orElseThrow());
+        CsvReading reading = this.reading(runContext);
+        var maxErrorsValue = runContext.render(this.maxErrors).as(Integer.class);
+
+        File rejectsFile = null;
+        CsvRejects rejects = null;
+        if (maxErrorsValue.isPresent()) {
+            rejectsFile = runContext.workingDir().createTempFile(".ion").toFile();
+            rejects = new CsvRejects(rejectsFile, maxErrorsValue.get(), reading.fieldSeparator(), reading.textDelimiter());
+        }
+
+        // convert
+        try (
+            ParquetWriter<GenericData.Record> writer = this.parquetWriter(runContext, tempFile, schema).build();
+            CsvReader<CsvRecord> csvReader = reading.open(runContext.storage().getFile(from))
+        ) {
+            // values are kept as strings, the avro converter casts them to the schema types
+            Long lineCount = this.convert(reading.rows(csvReader, null, rejects), schema, writer::write, runContext);
+
+            // metrics & finalize
+            runContext.metric(Counter.of("records", lineCount));
+        } finally {
+            if (rejects != null) {
+                rejects.close();
+            }
+        }
+
+        if (rejects != null) {
+            runContext.metric(Counter.of("rejects", rejects.count()));
+        }
+
+        return Output
+            .builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .rejects(rejectsFile == null ? null : runContext.storage().putFile(rejectsFile))
+            .build();
+    }
+
+    /**
+     * The reader options, shared with {@link CsvToIon}.
+     */
+    private CsvReading reading(RunContext runContext) throws IllegalVariableEvaluationException {
+        return CsvReading.builder()
+            .charset(Charset.forName(runContext.render(this.charset).as(String.class).orElseThrow()))
+            .header(runContext.render(this.header).as(Boolean.class).orElseThrow())
+            .fieldSeparator(runContext.render(this.fieldSeparator).as(Character.class).orElse(','))
+            .textDelimiter(runContext.render(this.textDelimiter).as(Character.class).orElse('"'))
+            .skipEmptyRows(runContext.render(this.skipEmptyRows).as(Boolean.class).orElseThrow())
+            .errorOnDifferentFieldCount(runContext.render(this.errorOnDifferentFieldCount).as(Boolean.class).orElseThrow())
+            .skipRows(runContext.render(this.skipRows).as(Integer.class).orElseThrow())
+            .maxRows(runContext.render(this.maxRows).as(Integer.class).orElse(Integer.MAX_VALUE))
+            .rejecting(runContext.render(this.maxErrors).as(Integer.class).isPresent())
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @io.swagger.v3.oas.annotations.media.Schema(
+            title = "URI of a temporary result file"
+        )
+        private URI uri;
+
+        @io.swagger.v3.oas.annotations.media.Schema(
+            title = "URI of the malformed records",
+            description = "Only set when `maxErrors` is set, each record has its `line`, `text`, `fieldCount` and `expectedFieldCount`."
+        )
+        private URI rejects;
+    }
+}
@@ -0,0 +1,368 @@
+package io.kestra.plugin.serdes.csv;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Infer the type of csv columns from sample values and convert cells to native values.
+ * Parsing is done by hand on the characters and never throws: a cell that doesn't match the column type is kept as a string.
+ */
+abstract class CsvTypeInference {
+    /**
+     * Significant digits a double can hold without losing precision.
+     */
+    private static final int DOUBLE_DIGITS = 15;
+
+    enum Type {
+        LONG,
+        DOUBLE,
+        DECIMAL,
+        BOOLEAN,
+        DATE,
+        TIMESTAMP,
+        STRING
+    }
+
+    /**
+     * Infer the type of each column, empty cells are ignored and a column without any value is a string.
+     * A double column holding an integer that a double can't represent exactly is a decimal.
+     */
+    static Type[] infer(List<List<String>> samples) {
+        int columns = samples.stream().mapToInt(List::size).max().orElse(0);
+        Type[] types = new Type[columns];
+        boolean[] inexact = new boolean[columns];
+
+        for (List<String> sample : samples) {
+            for (int i = 0; i < sample.size(); i++) {
+                Type detected = detect(sample.get(i));
+                types[i] = merge(types[i], detected);
+
+                if (detected == Type.LONG && !isExactDouble(number(sample.get(i), false))) {
+                    inexact[i] = true;
+                }
+            }
+        }
+
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == null) {
+                types[i] = Type.STRING;
+            } else if (types[i] == Type.DOUBLE && inexact[i]) {
+                types[i] = Type.DECIMAL;
+            }
+        }
+
+        return types;
+    }
+
+    static Type merge(Type current, Type detected) {
+        if (detected == null || current == detected) {
+            return current == null ? detected : current;
+        } else if (current == null) {
+            return detected;
+        } else if (isNumber(current) && isNumber(detected)) {
+            if (current == Type.DECIMAL || detected == Type.DECIMAL) {
+                return Type.DECIMAL;
+            }
+
+            return Type.DOUBLE;
+        }
+
+        return Type.STRING;
+    }
+
+    private static boolean isNumber(Type type) {
+        return type == Type.LONG || type == Type.DOUBLE || type == Type.DECIMAL;
+    }
+
+    /**
+     * The narrowest type matching the value, or null for an empty value.
+     */
+    static Type detect(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        Number number = number(value, false);
+        if (number != null) {
+            if (number instanceof Long) {
+                return Type.LONG;
+            }
+
+            return number instanceof BigDecimal ? Type.DECIMAL : Type.DOUBLE;
+        } else if (bool(value) != null) {
+            return Type.BOOLEAN;
+        } else if (date(value) != null) {
+            return Type.DATE;
+        } else if (timestamp(value) != null) {
+            return Type.TIMESTAMP;
+        }
+
+        return Type.STRING;
+    }
+
+    /**
+     * Convert the value to the column type, or return it unchanged if it doesn't match.
+     */
+    static Object convert(Type type, String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+
+        Object converted = switch (type) {
+            case LONG -> {
+                Number number = number(value, false);
+                yield number instanceof Long ? number : null;
+            }
+            case DOUBLE -> {
+                // a number the samples didn't show, that a double would round, is kept as it is
+                Number number = number(value, false);
+                yield isExactDouble(number) ? number.doubleValue() : null;
+            }
+            case DECIMAL -> {
+                Number number = number(value, true);
+                yield number instanceof BigDecimal ? number : null;
+            }
+            case BOOLEAN -> bool(value);
+            case DATE -> date(value);
+            case TIMESTAMP -> timestamp(value);
+            case STRING -> value;
+        };
+
+        return converted == null ? value : converted;
+    }
+
+    /**
+     * Check the number is a double, or a long a double holds without rounding.
+     */
+    private static boolean isExactDouble(Number number) {
+        if (number instanceof Long value) {
+            return (long) (double) value == value;
+        }
+
+        return number instanceof Double;
+    }
+
+    /**
+     * Parse an integer or a decimal number without leading zeros.
+     * Returns a {@link Long} for integers, a {@link BigDecimal} for numbers that would lose precision as a double,
+     * overflow or underflow it (or for every decimal if {@code decimal} is true) and a {@link Double} otherwise.
+     */
+    private static Number number(String value, boolean decimal) {
+        int length = value.length();
+        int index = 0;
+
+        if (value.charAt(0) == '-' || value.charAt(0) == '+') {
+            index++;
+        }
+
+        int integerStart = index;
+        boolean zero = true;
+        while (index < length && isDigit(value.charAt(index))) {
+            zero &= value.charAt(index) == '0';
+            index++;
+        }
+        int integerDigits = index - integerStart;
+
+        if (integerDigits == 0 || (integerDigits > 1 && value.charAt(integerStart) == '0')) {
+            return null;
+        }
+
+        int fractionDigits = 0;
+        if (index < length && value.charAt(index) == '.') {
+            index++;
+            int fractionStart = index;
+            while (index < length && isDigit(value.charAt(index))) {
+                zero &= value.charAt(index) == '0';
+                index++;
+            }
+            fractionDigits = index - fractionStart;
+
+            if (fractionDigits == 0) {
+                return null;
+            }
+        }
+
+        boolean exponent = false;
+        if (index < length && (value.charAt(index) == 'e' || value.charAt(index) == 'E')) {
+            index++;
+            if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+                index++;
+            }
+
+            int exponentStart = index;
+            while (index < length && isDigit(value.charAt(index))) {
+                index++;
+            }
+
+            if (index == exponentStart || index - exponentStart > 3) {
+                return null;
+            }
+            exponent = true;
+        }
+
+        if (index != length) {
+            return null;
+        }
+
+        if (fractionDigits == 0 && !exponent && !decimal) {
+            if (integerDigits <= 18) {
+                long result = 0;
+                for (int i = integerStart; i < length; i++) {
+                    result = result * 10 + (value.charAt(i) - '0');
+                }
+
+                return value.charAt(0) == '-' ? -result : result;
+            }
+
+            return new BigDecimal(value);
+        }
+
+        if (decimal || integerDigits + fractionDigits > DOUBLE_DIGITS) {
+            return new BigDecimal(value);
+        }
+
+        double result = Double.parseDouble(value);
+
+        // only an exponent can go out of the range of a double: infinite, rounded to zero or subnormal
+        if (exponent && (Double.isInfinite(result) || (result == 0 ? !zero : Math.abs(result) < Double.MIN_NORMAL))) {
+            return new BigDecimal(value);
+        }
+
+        return result;
+    }
+
+    private static Boolean bool(String value) {
+        if (value.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        } else if (value.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        }
+
+        return null;
+    }
+
+    /**
+     * Parse a {@code yyyy-MM-dd} date.
+     */
+    private static LocalDate date(String value) {
+        if (value.length() != 10) {
+            return null;
+        }
+
+        return date(value, 0);
+    }
+
+    private static LocalDate date(String value, int offset) {
+        if (value.charAt(offset + 4) != '-' || value.charAt(offset + 7) != '-') {
+            return null;
+        }
+
+        int year = digits(value, offset, 4);
+        int month = digits(value, offset + 5, 2);
+        int day = digits(value, offset + 8, 2);
+
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+
+        if (day > 28 && day > YearMonth.of(year, month).lengthOfMonth()) {
+            return null;
+        }
+
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Parse a {@code yyyy-MM-dd'T'HH:mm[:ss[.S]][offset]} timestamp, the date and time can also be separated by a space
+     * and the offset is {@code Z} or {@code +HH:MM}.
+     * Returns an {@link OffsetDateTime} when the offset is present and a {@link LocalDateTime} otherwise.
+     */
+    private static Object timestamp(String value) {
+        int length = value.length();
+        if (length < 16 || (value.charAt(10) != 'T' && value.charAt(10) != ' ') || value.charAt(13) != ':') {
+            return null;
+        }
+
+        LocalDate date = date(value, 0);
+        int hour = digits(value, 11, 2);
+        int minute = digits(value, 14, 2);
+
+        if (date == null || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+
+        int index = 16;
+        int second = 0;
+        int nano = 0;
+
+        if (index < length && value.charAt(index) == ':') {
+            second = length >= index + 3 ? digits(value, index + 1, 2) : -1;
+            if (second < 0 || second > 59) {
+                return null;
+            }
+            index += 3;
+
+            if (index < length && value.charAt(index) == '.') {
+                index++;
+                int fractionStart = index;
+                while (index < length && index - fractionStart < 9 && isDigit(value.charAt(index))) {
+                    nano = nano * 10 + (value.charAt(index) - '0');
+                    index++;
+                }
+
+                int fractionDigits = index - fractionStart;
+                if (fractionDigits == 0) {
+                    return null;
+                }
+
+                for (int i = fractionDigits; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+
+        LocalDateTime localDateTime = date.atTime(hour, minute, second, nano);
+
+        if (index == length) {
+            return localDateTime;
+        } else if (index == length - 1 && value.charAt(index) == 'Z') {
+            return OffsetDateTime.of(localDateTime, ZoneOffset.UTC);
+        } else if (index == length - 6 && (value.charAt(index) == '+' || value.charAt(index) == '-') && value.charAt(index + 3) == ':') {
+            int offsetHours = digits(value, index + 1, 2);
+            int offsetMinutes = digits(value, index + 4, 2);
+
+            if (offsetHours < 0 || offsetHours > 17 || offsetMinutes < 0 || offsetMinutes > 59) {
+                return null;
+            }
+
+            int sign = value.charAt(index) == '-' ? -1 : 1;
+
+            return OffsetDateTime.of(localDateTime, ZoneOffset.ofHoursMinutes(sign * offsetHours, sign * offsetMinutes));
+        }
+
+        return null;
+    }
+
+    private static int digits(String value, int offset, int count) {
+        int result = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char current = value.charAt(i);
+            if (!isDigit(current)) {
+                return -1;
+            }
+
+            result = result * 10 + (current - '0');
+        }
+
+        return result;
+    }
+
+    private static boolean isDigit(char current) {
+        return current >= '0' && current <= '9';
+    }
+}
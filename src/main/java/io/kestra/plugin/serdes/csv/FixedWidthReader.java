@@ -0,0 +1,164 @@
+package io.kestra.plugin.serdes.csv;
+
+import io.kestra.core.serializers.FileSerde;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Read fixed-width records and slice their fields straight from the record characters.
+ * Records are either lines, with an optional carriage return before the line feed, or blocks of {@code recordLength} characters.
+ */
+class FixedWidthReader {
+    private final Reader input;
+    private final int recordLength;
+    private final CsvRow.Header header;
+    private final int[] starts;
+    private final int[] lengths;
+    private final CsvTypeInference.Type[] types;
+    private final boolean trim;
+    private final boolean skipEmptyRows;
+
+    private final char[] buffer = new char[FileSerde.BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+    private char[] record = new char[256];
+    private int truncated = 0;
+
+    /**
+     * @param recordLength the number of characters of each record, 0 for records separated by line breaks
+     * @param types the type of each column, null to keep all values as strings
+     */
+    FixedWidthReader(Reader input, int recordLength, CsvRow.Header header, int[] starts, int[] lengths, CsvTypeInference.Type[] types, boolean trim, boolean skipEmptyRows) {
+        this.input = input;
+        this.recordLength = recordLength;
+        this.header = header;
+        this.starts = starts;
+        this.lengths = lengths;
+        this.types = types;
+        this.trim = trim;
+        this.skipEmptyRows = skipEmptyRows;
+    }
+
+    /**
+     * Skip records without slicing their fields.
+     */
+    void skip(int count) throws IOException {
+        for (int i = 0; i < count && this.readRecord() >= 0; i++) {
+            // nothing to do, the record is dropped
+        }
+    }
+
+    /**
+     * @return the next row or null at the end of the input
+     */
+    CsvRow next() throws IOException {
+        int size;
+        do {
+            size = this.readRecord();
+        } while (size == 0 && skipEmptyRows);
+
+        if (size < 0) {
+            return null;
+        }
+
+        Object[] values = new Object[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            int from = Math.min(starts[i], size);
+            int to = Math.min(starts[i] + lengths[i], size);
+
+            if (trim) {
+                while (from < to && record[from] == ' ') {
+                    from++;
+                }
+                while (to > from && record[to - 1] == ' ') {
+                    to--;
+                }
+            }
+
+            String value = new String(record, from, to - from);
+            values[i] = types == null ? value : CsvTypeInference.convert(types[i], value);
+        }
+
+        return header.row(values);
+    }
+
+    /**
+     * @return the number of characters of the incomplete last block that was dropped, 0 if the input ended on a record boundary
+     */
+    int truncated() {
+        return truncated;
+    }
+
+    /**
+     * Read the next record in the record buffer, an incomplete last block of {@code recordLength} characters is dropped.
+     *
+     * @return the number of characters of the record or -1 at the end of the input
+     */
+    private int readRecord() throws IOException {
+        int size = 0;
+        boolean read = false;
+
+        while (true) {
+            if (position == limit && !this.fill()) {
+                if (recordLength > 0 && read) {
+                    truncated = size;
+
+                    return -1;
+                }
+
+                return read ? this.trimCarriageReturn(size) : -1;
+            }
+            read = true;
+
+            if (recordLength > 0) {
+                int count = Math.min(recordLength - size, limit - position);
+                size = this.append(size, position, count);
+                position += count;
+
+                if (size == recordLength) {
+                    return size;
+                }
+            } else {
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                size = this.append(size, start, position - start);
+
+                if (position < limit) {
+                    position++;
+
+                    return this.trimCarriageReturn(size);
+                }
+            }
+        }
+    }
+
+    private int trimCarriageReturn(int size) {
+        return recordLength == 0 && size > 0 && record[size - 1] == '\r' ? size - 1 : size;
+    }
+
+    private int append(int size, int start, int count) {
+        if (size + count > record.length) {
+            record = Arrays.copyOf(record, Math.max(record.length * 2, size + count));
+        }
+
+        System.arraycopy(buffer, start, record, size, count);
+
+        return size + count;
+    }
+
+    private boolean fill() throws IOException {
+        int count = input.read(buffer);
+        if (count <= 0) {
+            return false;
+        }
+
+        position = 0;
+        limit = count;
+
+        return true;
+    }
+}
@@ -0,0 +1,355 @@
+package io.kestra.plugin.serdes.csv;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.plugin.serdes.ByteRange;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.io.*;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Read a fixed-width text file and write it to an ion serialized data file."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Convert a fixed-width extract to the Amazon Ion format.",
+            code = """
+                id: fixed_width_to_ion
+                namespace: company.team
+
+                inputs:
+                  - id: file
+                    type: FILE
+
+                tasks:
+                  - id: to_ion
+                    type: io.kestra.plugin.serdes.csv.FixedWidthToIon
+                    from: "{{ inputs.file }}"
+                    skipRows: 1
+                    columns:
+                      - name: id
+                        start: 0
+                        length: 8
+                        type: LONG
+                      - name: name
+                        start: 8
+                        length: 30
+                      - name: created
+                        start: 38
+                        length: 10
+                        type: DATE
+                """
+        )
+    }
+)
+public class FixedWidthToIon extends Task implements RunnableTask<FixedWidthToIon.Output> {
+    @NotNull
+    @Schema(
+        title = "Source file URI"
+    )
+    private Property<String> from;
+
+    @NotNull
+    @Schema(
+        title = "The columns of each record"
+    )
+    private List<Column> columns;
+
+    @Schema(
+        title = "The number of characters of each record",
+        description = "If not set, records are separated by line breaks. " +
+            "If set, records are read as consecutive blocks of this number of characters without any separator."
+    )
+    private Property<Integer> recordLength;
+
+    @Builder.Default
+    @Schema(
+        title = "Number of records to skip at the start of the file"
+    )
+    private final Property<Integer> skipRows = Property.of(0);
+
+    @Builder.Default
+    @Schema(
+        title = "Specifies if empty rows should be skipped"
+    )
+    private final Property<Boolean> skipEmptyRows = Property.of(false);
+
+    @Builder.Default
+    @Schema(
+        title = "Whether to remove the padding spaces around values"
+    )
+    private final Property<Boolean> trim = Property.of(true);
+
+    @Builder.Default
+    @Schema(
+        title = "The name of a supported charset"
+    )
+    private final Property<String> charset = Property.of(StandardCharsets.UTF_8.name());
+
+    @Builder.Default
+    @Schema(
+        title = "Number of threads used to parse the file",
+        description = "When greater than 1, the file is split into byte ranges aligned on records that are parsed concurrently, " +
+            "rows are written in the original order.\n" +
+            "Only supported with UTF-8 or single-byte charsets for records separated by line breaks " +
+            "and with single-byte charsets when `recordLength` is set, other files are parsed on a single thread."
+    )
+    private final Property<Integer> parallelism = Property.of(1);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        // reader
+        URI from = new URI(runContext.render(this.from).as(String.class).orElseThrow());
+
+        // temp file
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+
+        // configuration
+        Charset charsetValue = Charset.forName(runContext.render(this.charset).as(String.class).orElseThrow());
+        int recordLengthValue = runContext.render(this.recordLength).as(Integer.class).orElse(0);
+        var parallelismValue = runContext.render(this.parallelism).as(Integer.class).orElseThrow();
+
+        this.validate(recordLengthValue);
+
+        boolean singleByte = charsetValue.newEncoder().maxBytesPerChar() == 1;
+        boolean splittable = recordLengthValue > 0 ? singleByte : singleByte || charsetValue.equals(StandardCharsets.UTF_8);
+
+        Long lineCount;
+        if (parallelismValue > 1 && splittable) {
+            lineCount = this.readParallel(runContext, from, tempFile, charsetValue, recordLengthValue, parallelismValue);
+        } else {
+            if (parallelismValue > 1) {
+                runContext.logger().warn("Parallel parsing is not supported with charset '{}', the file will be parsed on a single thread", charsetValue);
+            }
+
+            try (InputStream inputStream = runContext.storage().getFile(from)) {
+                lineCount = this.read(runContext, inputStream, tempFile, charsetValue, recordLengthValue, true);
+            }
+        }
+
+        // metrics
+        runContext.metric(Counter.of("records", lineCount));
+
+        return Output
+            .builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .build();
+    }
+
+    private void validate(int recordLength) {
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("At least one column must be defined");
+        }
+
+        for (Column column : columns) {
+            if (column.getName() == null || column.getStart() == null || column.getLength() == null) {
+                throw new IllegalArgumentException("Invalid column " + column + ", name, start and length are required");
+            }
+
+            if (column.getStart() < 0 || column.getLength() <= 0) {
+                throw new IllegalArgumentException("Invalid column '" + column.getName() + "', start must be positive and length greater than 0");
+            }
+
+            if (recordLength > 0 && column.getStart() + column.getLength() > recordLength) {
+                throw new IllegalArgumentException("Invalid column '" + column.getName() + "', it ends after the record length " + recordLength);
+            }
+        }
+    }
+
+    private Long read(RunContext runContext, InputStream inputStream, File output, Charset charset, int recordLength, boolean skip) throws Exception {
+        try (
+            Reader reader = new InputStreamReader(inputStream, charset);
+            Writer writer = new BufferedWriter(new FileWriter(output), FileSerde.BUFFER_SIZE)
+        ) {
+            FixedWidthReader fixedWidthReader = this.fixedWidthReader(runContext, reader, recordLength);
+
+            if (skip) {
+                fixedWidthReader.skip(runContext.render(this.skipRows).as(Integer.class).orElseThrow());
+            }
+
+            Flux<Object> flowable = Flux.generate(sink -> {
+                try {
+                    CsvRow row = fixedWidthReader.next();
+
+                    if (row == null) {
+                        sink.complete();
+                    } else {
+                        sink.next(row);
+                    }
+                } catch (IOException e) {
+                    sink.error(e);
+                }
+            });
+
+            Long count = FileSerde.writeAll(writer, flowable).block();
+
+            writer.flush();
+
+            if (fixedWidthReader.truncated() > 0) {
+                runContext.logger().warn(
+                    "The last record has {} characters instead of {}, the file may be truncated and the record is dropped",
+                    fixedWidthReader.truncated(),
+                    recordLength
+                );
+            }
+
+            return count;
+        }
+    }
+
+    private Long readParallel(RunContext runContext, URI from, File tempFile, Charset charset, int recordLength, int parallelism) throws Exception {
+        // byte ranges need random access on the source
+        File source = runContext.workingDir().createTempFile(".txt").toFile();
+        try (InputStream inputStream = runContext.storage().getFile(from)) {
+            Files.copy(inputStream, source.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        var skipRowsValue = runContext.render(this.skipRows).as(Integer.class).orElseThrow();
+        long length = source.length();
+
+        // records start after the skipped records and, for fixed length records, every record length bytes
+        long dataStart = recordLength > 0 ? Math.min(length, (long) skipRowsValue * recordLength) : 0;
+        if (recordLength == 0) {
+            for (int i = 0; i < skipRowsValue && dataStart < length; i++) {
+                dataStart = ByteRange.nextLine(source, dataStart);
+            }
+        }
+
+        List<ByteRange> ranges;
+        if (recordLength > 0) {
+            List<Long> boundaries = new ArrayList<>();
+            boundaries.add(dataStart);
+
+            for (int i = 1; i < parallelism; i++) {
+                long target = dataStart + (length - dataStart) * i / parallelism;
+                boundaries.add(dataStart + (target - dataStart) / recordLength * recordLength);
+            }
+            boundaries.add(length);
+
+            ranges = ByteRange.of(boundaries);
+        } else {
+            ranges = ByteRange.lines(source, dataStart, parallelism);
+        }
+
+        // parse each range in its own file
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            files.add(runContext.workingDir().createTempFile(".ion").toFile());
+        }
+
+        List<Long> counts = ByteRange.map(ranges.size(), parallelism, index ->
+            this.read(runContext, ranges.get(index).open(source), files.get(index), charset, recordLength, false)
+        );
+
+        // merge in original order
+        ByteRange.concat(files, tempFile);
+
+        for (File file : files) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(source.toPath());
+
+        return counts.stream().mapToLong(Long::longValue).sum();
+    }
+
+    private FixedWidthReader fixedWidthReader(RunContext runContext, Reader reader, int recordLength) throws Exception {
+        int[] starts = new int[columns.size()];
+        int[] lengths = new int[columns.size()];
+        CsvTypeInference.Type[] types = new CsvTypeInference.Type[columns.size()];
+        boolean typed = false;
+
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            ColumnType type = column.getType() == null ? ColumnType.STRING : column.getType();
+            starts[i] = column.getStart();
+            lengths[i] = column.getLength();
+            types[i] = CsvTypeInference.Type.valueOf(type.name());
+            typed = typed || type != ColumnType.STRING;
+        }
+
+        return new FixedWidthReader(
+            reader,
+            recordLength,
+            CsvRow.Header.of(columns.stream().map(Column::getName).toList()),
+            starts,
+            lengths,
+            typed ? types : null,
+            runContext.render(this.trim).as(Boolean.class).orElseThrow(),
+            runContext.render(this.skipEmptyRows).as(Boolean.class).orElseThrow()
+        );
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "URI of a temporary result file"
+        )
+        private URI uri;
+    }
+
+    @Builder
+    @Data
+    @Schema(title = "A column of a fixed-width record.")
+    public static class Column {
+        @NotNull
+        @Schema(
+            title = "The name of the column"
+        )
+        private String name;
+
+        @NotNull
+        @Schema(
+            title = "The position of the first character of the column in the record, starting at 0"
+        )
+        private Integer start;
+
+        @NotNull
+        @Schema(
+            title = "The number of characters of the column"
+        )
+        private Integer length;
+
+        @Builder.Default
+        @Schema(
+            title = "The type of the column values",
+            description = "Values that don't match the type are kept as strings. " +
+                "Dates must use the `yyyy-MM-dd` format and timestamps the ISO-8601 `yyyy-MM-dd'T'HH:mm:ss` format with an optional fraction and offset."
+        )
+        private ColumnType type = ColumnType.STRING;
+    }
+
+    public enum ColumnType {
+        STRING,
+        LONG,
+        DOUBLE,
+        DECIMAL,
+        BOOLEAN,
+        DATE,
+        TIMESTAMP
+    }
+}
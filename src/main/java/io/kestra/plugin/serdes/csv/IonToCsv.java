@@ -1,5 +1,6 @@
 package io.kestra.plugin.serdes.csv;
 
+import de.siegmar.fastcsv.writer.CsvWriter.CsvWriterRecord;
 import de.siegmar.fastcsv.writer.LineDelimiter;
 import de.siegmar.fastcsv.writer.QuoteStrategies;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
@@ -16,6 +17,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.slf4j.Logger;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -135,37 +137,7 @@ public class IonToCsv extends AbstractTextWriter implements RunnableTask<IonToCs
 
             var headerValue = runContext.render(header).as(Boolean.class).orElseThrow();
             Flux<Object> flowable = FileSerde.readAll(inputStream)
-                .doOnNext(new Consumer<>() {
-                    private boolean first = false;
-
-                    @SuppressWarnings("unchecked")
-                    @Override
-                    public void accept(Object row) {
-                        if (row instanceof List) {
-                            List<Object> casted = (List<Object>) row;
-
-                            if (headerValue) {
-                                throw new IllegalArgumentException("Invalid data of type List with header");
-                            }
-
-                            var record = casted.stream().map(field -> convert(field)).toList();
-                            csvWriter.writeRecord(record);
-                        } else if (row instanceof Map) {
-                            Map<String, Object> casted = (Map<String, Object>) row;
-
-                            if (!first) {
-                                this.first = true;
-                                if (headerValue) {
-                                    var record = casted.keySet().stream().map(field -> convert(field)).toList();
-                                    csvWriter.writeRecord(record);
-                                }
-                            }
-
-                            var record = casted.values().stream().map(field -> convert(field)).toList();
-                            csvWriter.writeRecord(record);
-                        }
-                    }
-                });
+                .doOnNext(new RowWriter(csvWriter, headerValue, runContext.logger()));
 
             // metrics & finalize
             Mono<Long> count = flowable.count();
@@ -188,6 +160,94 @@ public class IonToCsv extends AbstractTextWriter implements RunnableTask<IonToCs
         private URI uri;
     }
 
+    /**
+     * Write rows field by field, the columns of map rows are planned once from the keys of the first row.
+     * Rows with the keys of the plan in the same order are written in iteration order, other rows are looked up by column name:
+     * missing keys are written as empty fields and keys absent from the first row are dropped.
+     */
+    private class RowWriter implements Consumer<Object> {
+        private final de.siegmar.fastcsv.writer.CsvWriter csvWriter;
+        private final boolean header;
+        private final Logger logger;
+        private String[] columns;
+        private boolean extraKeysLogged = false;
+
+        RowWriter(de.siegmar.fastcsv.writer.CsvWriter csvWriter, boolean header, Logger logger) {
+            this.csvWriter = csvWriter;
+            this.header = header;
+            this.logger = logger;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void accept(Object row) {
+            if (row instanceof List) {
+                List<Object> casted = (List<Object>) row;
+
+                if (header) {
+                    throw new IllegalArgumentException("Invalid data of type List with header");
+                }
+
+                CsvWriterRecord record = csvWriter.writeRecord();
+                for (Object field : casted) {
+                    record.writeField(convert(field));
+                }
+                record.endRecord();
+            } else if (row instanceof Map) {
+                Map<String, Object> casted = (Map<String, Object>) row;
+
+                if (columns == null) {
+                    columns = casted.keySet().toArray(String[]::new);
+
+                    if (header) {
+                        CsvWriterRecord record = csvWriter.writeRecord();
+                        for (String column : columns) {
+                            record.writeField(column);
+                        }
+                        record.endRecord();
+                    }
+                }
+
+                CsvWriterRecord record = csvWriter.writeRecord();
+                if (this.isAligned(casted)) {
+                    for (Object value : casted.values()) {
+                        record.writeField(convert(value));
+                    }
+                } else {
+                    for (String column : columns) {
+                        record.writeField(convert(casted.get(column)));
+                    }
+                    this.logExtraKeys(casted);
+                }
+                record.endRecord();
+            }
+        }
+
+        private boolean isAligned(Map<String, Object> row) {
+            if (row.size() != columns.length) {
+                return false;
+            }
+
+            int index = 0;
+            for (String key : row.keySet()) {
+                if (!key.equals(columns[index++])) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private void logExtraKeys(Map<String, Object> row) {
+            if (extraKeysLogged || row.size() <= columns.length && List.of(columns).containsAll(row.keySet())) {
+                return;
+            }
+
+            extraKeysLogged = true;
+            logger.warn("Row has keys that are not in the first row, they are dropped from the csv, columns are: {}", List.of(columns));
+        }
+    }
+
     private de.siegmar.fastcsv.writer.CsvWriter csvWriter(Writer writer, RunContext runContext) throws IllegalVariableEvaluationException {
         var builder = de.siegmar.fastcsv.writer.CsvWriter.builder();
 
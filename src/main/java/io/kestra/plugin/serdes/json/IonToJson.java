@@ -1,7 +1,12 @@
 package io.kestra.plugin.serdes.json;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -14,21 +19,25 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.*;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
-import java.util.ArrayList;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
 
@@ -67,6 +76,14 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
     aliases = "io.kestra.plugin.serdes.json.JsonWriter"
 )
 public class IonToJson extends Task implements RunnableTask<IonToJson.Output> {
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ROOT_VALUE_SEPARATOR = JsonFactory.DEFAULT_ROOT_VALUE_SEPARATOR.getValue().getBytes(StandardCharsets.UTF_8);
+    private static final int BATCH_SIZE = 1000;
+    private static final JsonFactory ION_FACTORY = JacksonMapper.ofIon().getFactory();
+
+    // mappers are thread safe and costly to build, they are shared by all the runs using the same timezone
+    private static final Map<String, ObjectMapper> MAPPERS = new ConcurrentHashMap<>();
+
     @NotNull
     @Schema(
         title = "Source file URI"
@@ -84,7 +101,7 @@ public class IonToJson extends Task implements RunnableTask<IonToJson.Output> {
     @Schema(
         title = "Is the file is a json new line (JSON-NL)",
         description = "Is the file is a json with new line separator\n" +
-            "Warning, if not, the whole file will loaded in memory and can lead to out of memory!"
+            "If not, the records are written as a json array, one element at a time."
     )
     private final Property<Boolean> newLine = Property.of(true);
 
@@ -94,6 +111,21 @@ public class IonToJson extends Task implements RunnableTask<IonToJson.Output> {
     )
     private final Property<String> timeZoneId = Property.of(ZoneId.systemDefault().toString());
 
+    @Builder.Default
+    @Schema(
+        title = "Number of threads used to encode the records",
+        description = "When greater than 1 with `newLine: true`, batches of records are encoded to json concurrently and written in the original order."
+    )
+    private final Property<Integer> parallelism = Property.of(1);
+
+    @Builder.Default
+    @Schema(
+        title = "Whether to copy the ion tokens straight to the json file",
+        description = "Field names, values and containers are copied from the ion parser to the json writer without building any Java object, " +
+            "which is faster for a pure format conversion. Values are written as they are stored, `timeZoneId` is not applied and `parallelism` is ignored."
+    )
+    private final Property<Boolean> transcode = Property.of(false);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         String suffix = runContext.render(this.newLine).as(Boolean.class).orElseThrow() ? ".jsonl" : ".json";
@@ -105,36 +137,55 @@ public class IonToJson extends Task implements RunnableTask<IonToJson.Output> {
             OutputStream outfile = new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE);
             BufferedReader inputStream = new BufferedReader(new InputStreamReader(runContext.storage().getFile(from), renderedCharset), FileSerde.BUFFER_SIZE);
         ) {
-            ObjectMapper mapper = new ObjectMapper()
-                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
-                .setSerializationInclusion(JsonInclude.Include.ALWAYS)
-                .setTimeZone(TimeZone.getTimeZone(ZoneId.of(runContext.render(this.timeZoneId).as(String.class).orElseThrow())))
-                .registerModule(new JavaTimeModule())
-                .registerModule(new Jdk8Module());
-            SequenceWriter objectWriter = mapper.writerFor(Object.class).writeValues(outfile);
-
-            if (runContext.render(this.newLine).as(Boolean.class).orElseThrow()) {
-                Flux<Object> flowable = FileSerde.readAll(inputStream)
-                    .doOnNext(throwConsumer(o -> {
-                        objectWriter.write(o);
-                        outfile.write("\n".getBytes());
-                    }));
+            ObjectMapper mapper = objectMapper(runContext.render(this.timeZoneId).as(String.class).orElseThrow());
+
+            if (runContext.render(this.transcode).as(Boolean.class).orElseThrow()) {
+                Long lineCount = this.transcode(inputStream, outfile, mapper, runContext.render(this.newLine).as(Boolean.class).orElseThrow());
+
+                runContext.metric(Counter.of("records", lineCount));
+            } else if (runContext.render(this.newLine).as(Boolean.class).orElseThrow()) {
+                ObjectWriter objectWriter = mapper.writerFor(Object.class);
+                var parallelismValue = runContext.render(this.parallelism).as(Integer.class).orElseThrow();
+
+                Flux<Object> flowable = FileSerde.readAll(inputStream);
+                Long lineCount;
+
+                if (parallelismValue > 1) {
+                    lineCount = flowable
+                        .buffer(BATCH_SIZE)
+                        .index()
+                        .flatMapSequential(
+                            batch -> Mono.fromCallable(() -> this.encode(objectWriter, batch.getT2(), batch.getT1() == 0)).subscribeOn(Schedulers.boundedElastic()),
+                            parallelismValue
+                        )
+                        .doOnNext(throwConsumer(batch -> outfile.write(batch.bytes())))
+                        .reduce(0L, (count, batch) -> count + batch.count())
+                        .block();
+                } else {
+                    SequenceWriter sequenceWriter = objectWriter.writeValues(outfile);
+
+                    lineCount = flowable
+                        .doOnNext(throwConsumer(o -> {
+                            sequenceWriter.write(o);
+                            outfile.write(NEW_LINE);
+                        }))
+                        .count()
+                        .block();
+                }
 
                 // metrics & finalize
-                Mono<Long> count = flowable.count();
-                Long lineCount = count.block();
                 runContext.metric(Counter.of("records", lineCount));
 
             } else {
-                AtomicLong lineCount = new AtomicLong();
-
-                List<Object> list = new ArrayList<>();
-                FileSerde.reader(inputStream, throwConsumer(e -> {
-                    list.add(e);
-                    lineCount.incrementAndGet();
-                }));
-                objectWriter.write(list);
-                runContext.metric(Counter.of("records", lineCount.get()));
+                // the array is opened and closed by the writer, elements are written as they are read
+                try (SequenceWriter arrayWriter = mapper.writerFor(Object.class).writeValuesAsArray(outfile)) {
+                    Long lineCount = FileSerde.readAll(inputStream)
+                        .doOnNext(throwConsumer(arrayWriter::write))
+                        .count()
+                        .block();
+
+                    runContext.metric(Counter.of("records", lineCount));
+                }
             }
 
             outfile.flush();
@@ -146,6 +197,102 @@ public class IonToJson extends Task implements RunnableTask<IonToJson.Output> {
             .build();
     }
 
+    private static ObjectMapper objectMapper(String timeZoneId) {
+        return MAPPERS.computeIfAbsent(timeZoneId, key -> new ObjectMapper()
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .setSerializationInclusion(JsonInclude.Include.ALWAYS)
+            .setTimeZone(TimeZone.getTimeZone(ZoneId.of(key)))
+            .registerModule(new JavaTimeModule())
+            .registerModule(new Jdk8Module())
+        );
+    }
+
+    private Long transcode(Reader input, OutputStream output, ObjectMapper mapper, boolean newLine) throws IOException {
+        long count = 0;
+
+        try (
+            JsonParser parser = ION_FACTORY.createParser(input);
+            JsonGenerator generator = mapper.getFactory().createGenerator(output)
+        ) {
+            if (!newLine) {
+                generator.writeStartArray();
+            }
+
+            while (parser.nextToken() != null) {
+                this.copy(parser, generator);
+                count++;
+
+                if (newLine) {
+                    generator.writeRaw('\n');
+                }
+            }
+
+            if (!newLine) {
+                generator.writeEndArray();
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Copy the value at the current token, like {@link JsonGenerator#copyCurrentStructure(JsonParser)},
+     * but writing ion timestamps and other embedded values as strings.
+     */
+    private void copy(JsonParser parser, JsonGenerator generator) throws IOException {
+        int depth = 0;
+
+        do {
+            JsonToken token = parser.currentToken();
+
+            if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                Object value = parser.getEmbeddedObject();
+
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof byte[] bytes) {
+                    generator.writeBinary(bytes);
+                } else if (value instanceof Date || value instanceof TemporalAccessor) {
+                    generator.writeObject(value);
+                } else {
+                    generator.writeString(String.valueOf(value));
+                }
+            } else {
+                generator.copyCurrentEvent(parser);
+            }
+
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        } while (depth > 0 && parser.nextToken() != null);
+    }
+
+    /**
+     * Encode a batch of records to json lines, written the same way as the sequential path:
+     * the sequence writer separates the records with the root value separator, also written before the batches after the first.
+     */
+    private Batch encode(ObjectWriter objectWriter, List<Object> records, boolean first) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        if (!first) {
+            output.write(ROOT_VALUE_SEPARATOR);
+        }
+
+        try (SequenceWriter sequenceWriter = objectWriter.writeValues(output)) {
+            for (Object record : records) {
+                sequenceWriter.write(record);
+                output.write(NEW_LINE);
+            }
+        }
+
+        return new Batch(records.size(), output.toByteArray());
+    }
+
+    private record Batch(long count, byte[] bytes) {
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
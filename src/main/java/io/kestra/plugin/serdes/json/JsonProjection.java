@@ -0,0 +1,95 @@
+package io.kestra.plugin.serdes.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read only the selected fields of json objects, the other fields are skipped by the parser without being built.
+ * Fields are dotted paths like {@code user.name}, a path going through an array applies to each of its elements.
+ */
+class JsonProjection {
+    private final Map<String, JsonProjection> children = new HashMap<>();
+    private boolean whole = false;
+
+    static JsonProjection of(List<String> fields) {
+        JsonProjection root = new JsonProjection();
+
+        for (String field : fields) {
+            JsonProjection current = root;
+            for (String name : field.split("\\.")) {
+                if (current.whole) {
+                    break;
+                }
+
+                current = current.children.computeIfAbsent(name, k -> new JsonProjection());
+            }
+
+            current.whole = true;
+            current.children.clear();
+        }
+
+        return root;
+    }
+
+    /**
+     * @return the projection of a field, null if the field is not selected
+     */
+    JsonProjection child(String name) {
+        return children.get(name);
+    }
+
+    /**
+     * @return true if the whole value is selected
+     */
+    boolean isWhole() {
+        return whole;
+    }
+
+    /**
+     * Read the value starting at the current token, keeping only the selected fields of objects.
+     * The parser is left on the last token of the value.
+     */
+    Object read(JsonParser parser, ObjectReader objectReader) throws IOException {
+        if (whole) {
+            return objectReader.readValue(parser);
+        }
+
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+            List<Object> values = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                values.add(this.read(parser, objectReader));
+            }
+
+            return values;
+        }
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return objectReader.readValue(parser);
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            JsonProjection child = children.get(parser.currentName());
+            parser.nextToken();
+
+            if (child == null) {
+                parser.skipChildren();
+            } else if (child.whole || parser.currentToken().isStructStart()) {
+                values.put(parser.currentName(), child.read(parser, objectReader));
+            } else {
+                // a nested path on a scalar value has nothing to select
+                parser.skipChildren();
+            }
+        }
+
+        return values;
+    }
+}
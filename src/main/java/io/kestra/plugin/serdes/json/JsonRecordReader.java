@@ -0,0 +1,86 @@
+package io.kestra.plugin.serdes.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Build a record from the json value at the current token, keeping only the projected fields
+ * and, when flattening, naming the fields of nested objects after their dotted path like {@code user.address.city}.
+ * The parser is left on the last token of the value.
+ */
+class JsonRecordReader {
+    private final ObjectMapper objectMapper;
+    private final ObjectReader objectReader;
+    private final JsonProjection projection;
+    private final JsonToIon.FlattenArrays flattenArrays;
+
+    /**
+     * @param projection the fields to keep, null to keep all the fields
+     * @param flattenArrays how arrays are flattened, null to keep nested objects
+     */
+    JsonRecordReader(ObjectMapper objectMapper, JsonProjection projection, JsonToIon.FlattenArrays flattenArrays) {
+        this.objectMapper = objectMapper;
+        this.objectReader = objectMapper.readerFor(Object.class);
+        this.projection = projection;
+        this.flattenArrays = flattenArrays;
+    }
+
+    Object read(JsonParser parser) throws IOException {
+        if (flattenArrays == null || parser.currentToken() != JsonToken.START_OBJECT) {
+            return this.nested(parser, projection);
+        }
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        this.flattenObject(parser, projection, null, row);
+
+        return row;
+    }
+
+    private Object nested(JsonParser parser, JsonProjection projection) throws IOException {
+        return projection == null ? objectReader.readValue(parser) : projection.read(parser, objectReader);
+    }
+
+    private void flattenObject(JsonParser parser, JsonProjection projection, String prefix, Map<String, Object> row) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = prefix == null ? parser.currentName() : prefix + "." + parser.currentName();
+            JsonProjection child = projection == null ? null : projection.child(parser.currentName());
+            parser.nextToken();
+
+            if (projection != null && child == null) {
+                parser.skipChildren();
+            } else {
+                this.flattenValue(parser, child == null || child.isWhole() ? null : child, name, row);
+            }
+        }
+    }
+
+    private void flattenValue(JsonParser parser, JsonProjection projection, String name, Map<String, Object> row) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT -> this.flattenObject(parser, projection, name, row);
+            case START_ARRAY -> {
+                switch (flattenArrays) {
+                    case KEEP -> row.put(name, this.nested(parser, projection));
+                    case JSON -> row.put(name, objectMapper.writeValueAsString(this.nested(parser, projection)));
+                    case INDEX -> {
+                        int index = 0;
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            this.flattenValue(parser, projection, name + "." + index++, row);
+                        }
+                    }
+                }
+            }
+            default -> {
+                if (projection == null) {
+                    row.put(name, objectReader.readValue(parser));
+                }
+                // otherwise a nested path on a scalar value has nothing to select
+            }
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package io.kestra.plugin.serdes.json;
 
+import com.amazon.ion.IonWriter;
+import com.amazon.ion.system.IonTextWriterBuilder;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.ion.IonFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.kestra.core.models.annotations.Example;
@@ -15,6 +21,9 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.Rethrow;
+import io.kestra.plugin.serdes.ByteRange;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -27,8 +36,12 @@ import java.io.*;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Collection;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
@@ -50,7 +63,7 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
         {"product_id":"3","product_name":"expedite front-end schemas","product_category":"Household","brand":"davis-martinez"}
         ```
 
-        We do NOT support an array of JSON objects. A JSON file in the following array format is not supported:
+        A JSON file containing an array of JSON objects, like the following, is supported with `newLine: false`, elements are read one at a time:
         ```
         [
             {"product_id":"1","product_name":"streamline turn-key systems","product_category":"Electronics","brand":"gomez"},
@@ -58,6 +71,8 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
             {"product_id":"3","product_name":"expedite front-end schemas","product_category":"Household","brand":"davis-martinez"}
         ]
         ```
+
+        An array nested in a document, like `{"meta": {...}, "data": [...]}`, can be read with `jsonPointer: /data`.
         """
 )
 @Plugin(
@@ -84,6 +99,8 @@ import static io.kestra.core.utils.Rethrow.throwConsumer;
 )
 public class JsonToIon extends Task implements RunnableTask<JsonToIon.Output> {
     private static final int BUFFER_SIZE = 32 * 1024;
+    private static final IonFactory ION_FACTORY = (IonFactory) JacksonMapper.ofIon().getFactory();
+
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
         .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
         .setSerializationInclusion(JsonInclude.Include.ALWAYS)
@@ -107,11 +124,71 @@ public class JsonToIon extends Task implements RunnableTask<JsonToIon.Output> {
     @Builder.Default
     @Schema(
         title = "Is the file is a json new line (JSON-NL)",
-        description = "Is the file is a json with new line separator\n" +
-            "Warning, if not, the whole file will loaded in memory and can lead to out of memory!"
+        description = "Is the file is a json with new line separator, empty lines are ignored.\n" +
+            "If not, the file must contain a json array, whose elements are streamed one at a time, or a single json value."
     )
     private final Property<Boolean> newLine = Property.of(true);
 
+    @Schema(
+        title = "A JSON Pointer to the value to read, like `/data` or `/response/items`",
+        description = "Only the value at this location is read, the rest of the document is skipped without being loaded. " +
+            "If the value is an array, its elements are written one at a time, otherwise the value is written as a single record.\n" +
+            "With `newLine: true`, the pointer is applied to each line."
+    )
+    private Property<String> jsonPointer;
+
+    @Schema(
+        title = "The fields to keep in each record",
+        description = "Nested fields are selected with a dotted path like `user.address.city`, " +
+            "a path going through an array is applied to each of its elements. " +
+            "Other fields are skipped while parsing, without being loaded. If not set, all the fields are kept."
+    )
+    private Property<List<String>> fields;
+
+    @Builder.Default
+    @Schema(
+        title = "Whether to flatten nested objects",
+        description = "The fields of nested objects are written as top level fields named after their dotted path, like `user.address.city`, " +
+            "so that records can be written to tabular formats like CSV, Excel or Parquet. Arrays are handled according to `flattenArrays`."
+    )
+    private final Property<Boolean> flatten = Property.of(false);
+
+    @Builder.Default
+    @Schema(
+        title = "How arrays are flattened when `flatten` is true",
+        description = "`KEEP` writes arrays as list values, `INDEX` flattens each element in a field suffixed by its index like `items.0.sku`, " +
+            "`JSON` writes arrays as json strings."
+    )
+    private final Property<FlattenArrays> flattenArrays = Property.of(FlattenArrays.KEEP);
+
+    @Builder.Default
+    @Schema(
+        title = "Whether to copy the json tokens straight to the ion file",
+        description = "Field names, values and containers are copied from the json parser to the ion writer without building any Java object, " +
+            "which is faster for a pure format conversion. Can't be used with `fields` or `flatten`."
+    )
+    private final Property<Boolean> transcode = Property.of(false);
+
+    @Builder.Default
+    @Schema(
+        title = "Number of threads used to parse the file",
+        description = "When greater than 1 with `newLine: true`, the file is split into byte ranges aligned on lines that are parsed concurrently, " +
+            "records are written in the original order.\n" +
+            "Only supported with UTF-8 or single-byte charsets, other files are parsed on a single thread."
+    )
+    private final Property<Integer> parallelism = Property.of(1);
+
+    @Builder.Default
+    @Schema(
+        title = "The parser used to read the json records",
+        description = "`JACKSON` parses the file token by token with Jackson.\n" +
+            "`VECTOR` first indexes the structural characters of large buffers of lines with the JDK Vector API, like simdjson does, " +
+            "then builds the records by walking this index. It needs the `jdk.incubator.vector` module, added to the worker JVM with " +
+            "`--add-modules jdk.incubator.vector`, otherwise the file is parsed with Jackson. " +
+            "Only supported for UTF-8 json new line files, without `jsonPointer`, `fields`, `flatten` or `transcode`."
+    )
+    private final Property<Parser> parser = Property.of(Parser.JACKSON);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         // reader
@@ -120,28 +197,116 @@ public class JsonToIon extends Task implements RunnableTask<JsonToIon.Output> {
         // temp file
         File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
 
-        var renderedCharset = runContext.render(this.charset).as(String.class).orElseThrow();
+        var renderedCharset = Charset.forName(runContext.render(this.charset).as(String.class).orElseThrow());
         var renderedNewLine = runContext.render(this.newLine).as(Boolean.class).orElseThrow();
+        var renderedJsonPointer = runContext.render(this.jsonPointer).as(String.class).map(JsonPointer::compile).orElse(null);
+        var renderedFields = runContext.render(this.fields).asList(String.class);
+        var renderedFlatten = runContext.render(this.flatten).as(Boolean.class).orElseThrow();
 
-        try (
-            BufferedReader input = new BufferedReader(new InputStreamReader(runContext.storage().getFile(from), renderedCharset), FileSerde.BUFFER_SIZE);
-            Writer writer = new BufferedWriter(new FileWriter(tempFile, Charset.forName(renderedCharset)), FileSerde.BUFFER_SIZE)
-        ) {
-            Flux<Object> flowable = Flux
-                .create(this.nextRow(input, renderedNewLine), FluxSink.OverflowStrategy.BUFFER);
-            Mono<Long> count = FileSerde.writeAll(writer, flowable);
+        // records are not built when transcoding
+        JsonRecordReader recordReader = null;
+        if (runContext.render(this.transcode).as(Boolean.class).orElseThrow()) {
+            if (!renderedFields.isEmpty() || renderedFlatten) {
+                throw new IllegalArgumentException("`transcode` can't be used with `fields` or `flatten`");
+            }
+        } else {
+            recordReader = new JsonRecordReader(
+                OBJECT_MAPPER,
+                renderedFields.isEmpty() ? null : JsonProjection.of(renderedFields),
+                renderedFlatten ? runContext.render(this.flattenArrays).as(FlattenArrays.class).orElseThrow() : null
+            );
+        }
+        var renderedParallelism = runContext.render(this.parallelism).as(Integer.class).orElseThrow();
+
+        boolean vector = false;
+        if (runContext.render(this.parser).as(Parser.class).orElseThrow() == Parser.VECTOR) {
+            if (!renderedNewLine || renderedJsonPointer != null || !renderedFields.isEmpty() || renderedFlatten || recordReader == null) {
+                throw new IllegalArgumentException("`parser: VECTOR` can only be used with `newLine: true`, without `jsonPointer`, `fields`, `flatten` or `transcode`");
+            }
+
+            if (!renderedCharset.equals(StandardCharsets.UTF_8)) {
+                throw new IllegalArgumentException("`parser: VECTOR` can only read UTF-8 files");
+            }
 
-            // metrics & finalize
-            Long lineCount = count.block();
-            runContext.metric(Counter.of("records", lineCount));
+            vector = StructuralJsonReader.available();
+            if (!vector) {
+                runContext.logger().warn("The `jdk.incubator.vector` module is not available, the file will be parsed with Jackson");
+            }
         }
 
+        boolean splittable = renderedCharset.equals(StandardCharsets.UTF_8) || renderedCharset.newEncoder().maxBytesPerChar() == 1;
+
+        Long lineCount;
+        if (renderedNewLine && renderedParallelism > 1 && splittable) {
+            lineCount = this.readParallel(runContext, from, tempFile, renderedCharset, renderedJsonPointer, recordReader, vector, renderedParallelism);
+        } else {
+            if (renderedNewLine && renderedParallelism > 1) {
+                runContext.logger().warn("Parallel parsing is not supported with charset '{}', the file will be parsed on a single thread", renderedCharset);
+            }
+
+            try (InputStream input = runContext.storage().getFile(from)) {
+                lineCount = this.read(input, tempFile, renderedCharset, renderedNewLine, renderedJsonPointer, recordReader, vector);
+            }
+        }
+
+        // metrics
+        runContext.metric(Counter.of("records", lineCount));
+
         return Output
             .builder()
             .uri(runContext.storage().putFile(tempFile))
             .build();
     }
 
+    /**
+     * @param recordReader the reader building each record, null to transcode the tokens
+     * @param vector whether the records are read by a {@link StructuralJsonReader} instead of the jackson parser
+     */
+    private Long read(InputStream input, File output, Charset charset, boolean newLine, JsonPointer jsonPointer, JsonRecordReader recordReader, boolean vector) throws IOException {
+        if (recordReader == null) {
+            return this.transcode(input, output, charset, newLine, jsonPointer);
+        }
+
+        try (Writer writer = new BufferedWriter(new FileWriter(output, charset), FileSerde.BUFFER_SIZE)) {
+            Flux<Object> flowable = Flux
+                .create(vector ? this.nextVectorRow(input) : this.nextRow(input, charset, newLine, jsonPointer, recordReader), FluxSink.OverflowStrategy.BUFFER);
+            Mono<Long> count = FileSerde.writeAll(writer, flowable);
+
+            return count.block();
+        }
+    }
+
+    private Long readParallel(RunContext runContext, URI from, File tempFile, Charset charset, JsonPointer jsonPointer, JsonRecordReader recordReader, boolean vector, int parallelism) throws Exception {
+        // byte ranges need random access on the source
+        File source = runContext.workingDir().createTempFile(".jsonl").toFile();
+        try (InputStream inputStream = runContext.storage().getFile(from)) {
+            Files.copy(inputStream, source.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // parse each range of lines in its own file
+        List<ByteRange> ranges = ByteRange.lines(source, 0, parallelism);
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            files.add(runContext.workingDir().createTempFile(".ion").toFile());
+        }
+
+        List<Long> counts = ByteRange.map(ranges.size(), parallelism, index -> {
+            try (InputStream inputStream = ranges.get(index).open(source)) {
+                return this.read(inputStream, files.get(index), charset, true, jsonPointer, recordReader, vector);
+            }
+        });
+
+        // merge in original order
+        ByteRange.concat(files, tempFile);
+
+        for (File file : files) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(source.toPath());
+
+        return counts.stream().mapToLong(Long::longValue).sum();
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -151,27 +316,161 @@ public class JsonToIon extends Task implements RunnableTask<JsonToIon.Output> {
         private final URI uri;
     }
 
-    private Consumer<FluxSink<Object>> nextRow(BufferedReader inputStream, boolean newLine) throws IOException {
-        ObjectReader objectReader = OBJECT_MAPPER.readerFor(Object.class);
+    private Long transcode(InputStream input, File output, Charset charset, boolean newLine, JsonPointer jsonPointer) throws IOException {
+        AtomicLong count = new AtomicLong();
+
+        try (
+            JsonParser parser = this.parser(input, charset);
+            Writer writer = new BufferedWriter(new FileWriter(output, charset), FileSerde.BUFFER_SIZE);
+            // the records are separated by the ion writer, so nothing is flushed until the end
+            IonWriter ionWriter = IonTextWriterBuilder.standard().withWriteTopLevelValuesOnNewLines(true).build(writer);
+            JsonGenerator generator = ION_FACTORY.createGenerator(ionWriter)
+        ) {
+            this.readRecords(parser, newLine, jsonPointer, current -> {
+                generator.copyCurrentStructure(current);
+                count.incrementAndGet();
+            });
+
+            generator.flush();
+            if (count.get() > 0) {
+                writer.write('\n');
+            }
+        }
+
+        return count.get();
+    }
 
+    private Consumer<FluxSink<Object>> nextRow(InputStream inputStream, Charset charset, boolean newLine, JsonPointer jsonPointer, JsonRecordReader recordReader) {
         return throwConsumer(s -> {
-            if (newLine) {
-                String line;
-                while ((line = inputStream.readLine()) != null) {
-                    s.next(objectReader.readValue(line));
-                }
-            } else {
-                Object objects = objectReader.readValue(inputStream);
+            try (JsonParser parser = this.parser(inputStream, charset)) {
+                this.readRecords(parser, newLine, jsonPointer, current -> s.next(recordReader.read(current)));
+            }
 
-                if (objects instanceof Collection) {
-                    ((Collection<?>) objects)
-                        .forEach(s::next);
+            s.complete();
+        });
+    }
+
+    private Consumer<FluxSink<Object>> nextVectorRow(InputStream inputStream) {
+        return throwConsumer(s -> {
+            // the reader keeps its buffers, one is needed for each input
+            StructuralJsonReader.vector().read(inputStream, s::next);
+
+            s.complete();
+        });
+    }
+
+    private JsonParser parser(InputStream inputStream, Charset charset) throws IOException {
+        // utf-8 bytes are decoded by the parser itself, other charsets go through a reader
+        return charset.equals(StandardCharsets.UTF_8) ?
+            OBJECT_MAPPER.getFactory().createParser(inputStream) :
+            OBJECT_MAPPER.getFactory().createParser(new BufferedReader(new InputStreamReader(inputStream, charset), FileSerde.BUFFER_SIZE));
+    }
+
+    /**
+     * Call the consumer with the parser on the first token of each record.
+     */
+    private void readRecords(JsonParser parser, boolean newLine, JsonPointer jsonPointer, Rethrow.ConsumerChecked<JsonParser, IOException> consumer) throws IOException {
+        if (newLine) {
+            // a single parser reads the sequence of root level values, without building a string per line
+            while (parser.nextToken() != null) {
+                if (jsonPointer == null) {
+                    consumer.accept(parser);
                 } else {
-                    s.next(objects);
+                    this.readPointer(parser, jsonPointer, consumer);
+                    this.skipToRoot(parser);
                 }
             }
+        } else if (parser.nextToken() != null) {
+            // a top level array is unwrapped, its elements are read one at a time
+            this.readPointer(parser, jsonPointer == null ? JsonPointer.empty() : jsonPointer, consumer);
+        }
+    }
 
-            s.complete();
-        });
+    /**
+     * Move to the value at the pointer and consume it, or its elements if it's an array.
+     */
+    private void readPointer(JsonParser parser, JsonPointer jsonPointer, Rethrow.ConsumerChecked<JsonParser, IOException> consumer) throws IOException {
+        if (!this.seek(parser, jsonPointer)) {
+            throw new IllegalArgumentException("No value found at json pointer '" + jsonPointer + "'");
+        }
+
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                consumer.accept(parser);
+            }
+        } else {
+            consumer.accept(parser);
+        }
+    }
+
+    /**
+     * Move the parser from the start of a value to the start of the value at the pointer, skipping the other values.
+     *
+     * @return false if there is no value at the pointer
+     */
+    private boolean seek(JsonParser parser, JsonPointer jsonPointer) throws IOException {
+        JsonPointer current = jsonPointer;
+
+        while (!current.matches()) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                String name = current.getMatchingProperty();
+                boolean found = false;
+
+                while (!found && parser.nextToken() == JsonToken.FIELD_NAME) {
+                    found = name.equals(parser.currentName());
+                    parser.nextToken();
+
+                    if (!found) {
+                        parser.skipChildren();
+                    }
+                }
+
+                if (!found) {
+                    return false;
+                }
+            } else if (parser.currentToken() == JsonToken.START_ARRAY && current.mayMatchElement()) {
+                for (int i = 0; i <= current.getMatchingIndex(); i++) {
+                    if (parser.nextToken() == JsonToken.END_ARRAY) {
+                        return false;
+                    }
+
+                    if (i < current.getMatchingIndex()) {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                return false;
+            }
+
+            current = current.tail();
+        }
+
+        return true;
+    }
+
+    /**
+     * Skip the rest of the current root level value once the value at the pointer has been read.
+     */
+    private void skipToRoot(JsonParser parser) throws IOException {
+        while (!parser.getParsingContext().inRoot()) {
+            JsonToken token = parser.nextToken();
+
+            if (token == null) {
+                return;
+            }
+
+            parser.skipChildren();
+        }
+    }
+
+    public enum FlattenArrays {
+        KEEP,
+        INDEX,
+        JSON
+    }
+
+    public enum Parser {
+        JACKSON,
+        VECTOR
     }
 }
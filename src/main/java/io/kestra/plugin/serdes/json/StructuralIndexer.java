@@ -0,0 +1,25 @@
+package io.kestra.plugin.serdes.json;
+
+/**
+ * Find the structural characters of a json buffer, as the first stage of simdjson: the braces, brackets, colons and commas
+ * outside of strings, the first character of each scalar other than a string, and for strings their quotes,
+ * the backslash of each escape and the unescaped control characters.
+ */
+interface StructuralIndexer {
+    /**
+     * Index {@code buffer[0, length)}, which must not start inside a string.
+     *
+     * @return the number of structural positions, read with {@link #positions()}
+     */
+    int index(byte[] buffer, int length);
+
+    /**
+     * @return the structural positions of the last indexed buffer, in increasing order
+     */
+    int[] positions();
+
+    /**
+     * @return the position of the last line feed outside of a string in the last indexed buffer, -1 if there is none
+     */
+    int lastNewLine();
+}
@@ -0,0 +1,462 @@
+package io.kestra.plugin.serdes.json;
+
+import io.kestra.core.utils.Rethrow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read UTF-8 json new line records in two stages like simdjson: the structural characters of a whole buffer of lines are
+ * indexed first by a {@link StructuralIndexer}, then the records are built by walking this index instead of tokenizing
+ * each byte.
+ * <p>
+ * Records are built like jackson does for {@code Object.class}: objects are {@link LinkedHashMap}, arrays are {@link ArrayList},
+ * integers are {@link Integer}, {@link Long} or {@link BigInteger} depending on their size and other numbers are {@link Double}.
+ */
+final class StructuralJsonReader {
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    private static final int KEY_CACHE_SIZE = 512;
+
+    private final StructuralIndexer indexer;
+
+    private byte[] buffer;
+    private int length;
+    private long offset;
+
+    private int[] positions;
+    private int cursor;
+    private int limit;
+
+    private char[] chars = new char[256];
+    private final byte[][] keyBytes = new byte[KEY_CACHE_SIZE][];
+    private final String[] keys = new String[KEY_CACHE_SIZE];
+
+    StructuralJsonReader(StructuralIndexer indexer, int bufferSize) {
+        this.indexer = indexer;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * @return whether the {@code jdk.incubator.vector} module is loaded, it must be added to the JVM with {@code --add-modules jdk.incubator.vector}
+     */
+    static boolean available() {
+        return AVAILABLE;
+    }
+
+    /**
+     * @return a reader indexing the buffers with the JDK Vector API, only to be called when {@link #available()}
+     */
+    static StructuralJsonReader vector() {
+        return new StructuralJsonReader(new VectorStructuralIndexer(), BUFFER_SIZE);
+    }
+
+    /**
+     * Call the consumer with each root level value of the input.
+     */
+    void read(InputStream input, Rethrow.ConsumerChecked<Object, IOException> consumer) throws IOException {
+        length = 0;
+        offset = 0;
+        boolean end = false;
+
+        while (!end) {
+            int read = input.readNBytes(buffer, length, buffer.length - length);
+            end = read < buffer.length - length;
+
+            if (offset == 0 && length == 0 && read >= 3 && (buffer[0] & 0xff) == 0xEF && (buffer[1] & 0xff) == 0xBB && (buffer[2] & 0xff) == 0xBF) {
+                // utf-8 byte order mark
+                System.arraycopy(buffer, 3, buffer, 0, read - 3);
+                read -= 3;
+                offset = 3;
+            }
+            length += read;
+
+            int count = indexer.index(buffer, length);
+            positions = indexer.positions();
+
+            // only whole lines are read, the rest is kept for the next buffer
+            int complete = end ? length : indexer.lastNewLine() + 1;
+            int consumed = this.values(count, complete, end, consumer);
+
+            System.arraycopy(buffer, consumed, buffer, 0, length - consumed);
+            length -= consumed;
+            offset += consumed;
+
+            if (length == buffer.length) {
+                // a record longer than the buffer
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+    }
+
+    /**
+     * Read the values fully contained in {@code buffer[0, complete)}.
+     *
+     * @return the position following the last value read
+     */
+    private int values(int count, int complete, boolean end, Rethrow.ConsumerChecked<Object, IOException> consumer) throws IOException {
+        limit = count;
+        while (limit > 0 && positions[limit - 1] >= complete) {
+            limit--;
+        }
+
+        cursor = 0;
+        while (cursor < limit) {
+            int start = cursor;
+            Object value;
+
+            try {
+                value = this.value();
+            } catch (IncompleteValueException e) {
+                if (end) {
+                    throw new IOException("Unexpected end of input in the value starting at byte offset " + (offset + positions[start]));
+                }
+
+                // the value continues on the next lines
+                return positions[start];
+            }
+
+            consumer.accept(value);
+        }
+
+        return complete;
+    }
+
+    private int next() throws IncompleteValueException {
+        if (cursor >= limit) {
+            throw IncompleteValueException.INSTANCE;
+        }
+
+        return positions[cursor++];
+    }
+
+    private Object value() throws IOException {
+        int position = this.next();
+
+        return switch (buffer[position]) {
+            case '{' -> this.object();
+            case '[' -> this.array();
+            case '"' -> this.string(position);
+            case 't' -> this.literal(position, "true", Boolean.TRUE);
+            case 'f' -> this.literal(position, "false", Boolean.FALSE);
+            case 'n' -> this.literal(position, "null", null);
+            case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> this.number(position);
+            default -> throw this.unexpected(position);
+        };
+    }
+
+    private Map<String, Object> object() throws IOException {
+        Map<String, Object> object = new LinkedHashMap<>();
+
+        if (cursor < limit && buffer[positions[cursor]] == '}') {
+            cursor++;
+            return object;
+        }
+
+        while (true) {
+            int key = this.next();
+            if (buffer[key] != '"') {
+                throw this.unexpected(key);
+            }
+            String name = this.key(key);
+
+            int colon = this.next();
+            if (buffer[colon] != ':') {
+                throw this.unexpected(colon);
+            }
+
+            object.put(name, this.value());
+
+            int separator = this.next();
+            if (buffer[separator] == '}') {
+                return object;
+            } else if (buffer[separator] != ',') {
+                throw this.unexpected(separator);
+            }
+        }
+    }
+
+    private List<Object> array() throws IOException {
+        List<Object> array = new ArrayList<>();
+
+        if (cursor < limit && buffer[positions[cursor]] == ']') {
+            cursor++;
+            return array;
+        }
+
+        while (true) {
+            array.add(this.value());
+
+            int separator = this.next();
+            if (buffer[separator] == ']') {
+                return array;
+            } else if (buffer[separator] != ',') {
+                throw this.unexpected(separator);
+            }
+        }
+    }
+
+    /**
+     * Read a field name, the names are decoded once and then found again in a small cache like jackson canonicalizes them.
+     */
+    private String key(int quote) throws IOException {
+        int from = quote + 1;
+        int next = this.next();
+        if (buffer[next] != '"') {
+            return this.unescape(from, next);
+        }
+
+        int hash = 0;
+        for (int i = from; i < next; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (KEY_CACHE_SIZE - 1);
+        byte[] cached = keyBytes[slot];
+
+        if (cached == null || !Arrays.equals(cached, 0, cached.length, buffer, from, next)) {
+            keyBytes[slot] = Arrays.copyOfRange(buffer, from, next);
+            keys[slot] = new String(buffer, from, next - from, StandardCharsets.UTF_8);
+        }
+
+        return keys[slot];
+    }
+
+    private String string(int quote) throws IOException {
+        int from = quote + 1;
+        int next = this.next();
+
+        // the closing quote is indexed, most strings have no escape and are decoded at once
+        if (buffer[next] == '"') {
+            return new String(buffer, from, next - from, StandardCharsets.UTF_8);
+        }
+
+        return this.unescape(from, next);
+    }
+
+    /**
+     * Decode a string from {@code from}, whose first escape or control character is at {@code next}.
+     * The following escapes and the closing quote are the next structural positions.
+     */
+    private String unescape(int from, int next) throws IOException {
+        int count = 0;
+
+        while (true) {
+            count = this.append(from, next, count);
+
+            switch (buffer[next]) {
+                case '"' -> {
+                    return new String(chars, 0, count);
+                }
+                case '\\' -> {
+                    byte escaped = this.byteAt(next + 1);
+                    from = next + 2;
+
+                    switch (escaped) {
+                        case '"', '\\', '/' -> count = this.append((char) escaped, count);
+                        case 'b' -> count = this.append('\b', count);
+                        case 'f' -> count = this.append('\f', count);
+                        case 'n' -> count = this.append('\n', count);
+                        case 'r' -> count = this.append('\r', count);
+                        case 't' -> count = this.append('\t', count);
+                        case 'u' -> {
+                            int code = 0;
+                            for (int i = next + 2; i < next + 6; i++) {
+                                int digit = Character.digit(this.byteAt(i), 16);
+                                if (digit < 0) {
+                                    throw this.unexpected(i);
+                                }
+
+                                code = code * 16 + digit;
+                            }
+
+                            count = this.append((char) code, count);
+                            from = next + 6;
+                        }
+                        default -> throw this.unexpected(next + 1);
+                    }
+                }
+                // an unescaped control character
+                default -> throw this.unexpected(next);
+            }
+
+            next = this.next();
+        }
+    }
+
+    /**
+     * Append the characters of {@code buffer[from, to)}, which has no escape.
+     */
+    private int append(int from, int to, int count) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] < 0) {
+                // multi-byte characters are decoded by the jdk
+                return this.append(new String(buffer, i, to - i, StandardCharsets.UTF_8), count);
+            }
+
+            count = this.append((char) buffer[i], count);
+        }
+
+        return count;
+    }
+
+    private int append(char current, int count) {
+        if (count == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+        }
+
+        chars[count] = current;
+
+        return count + 1;
+    }
+
+    private int append(String value, int count) {
+        if (count + value.length() > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, count + value.length()));
+        }
+
+        value.getChars(0, value.length(), chars, count);
+
+        return count + value.length();
+    }
+
+    private Object literal(int position, String literal, Object value) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (position + i >= length || buffer[position + i] != literal.charAt(i)) {
+                throw this.unexpected(position + i);
+            }
+        }
+
+        this.terminated(position + literal.length());
+
+        return value;
+    }
+
+    private Object number(int start) throws IOException {
+        int position = start;
+        boolean negative = buffer[position] == '-';
+        if (negative) {
+            position++;
+        }
+
+        int digits = this.digits(position);
+        if (digits == 0 || (digits > 1 && buffer[position] == '0')) {
+            throw this.unexpected(position);
+        }
+        position += digits;
+
+        boolean integral = true;
+        if (position < length && buffer[position] == '.') {
+            integral = false;
+            int fraction = this.digits(position + 1);
+            if (fraction == 0) {
+                throw this.unexpected(position + 1);
+            }
+            position += fraction + 1;
+        }
+
+        if (position < length && (buffer[position] | 0x20) == 'e') {
+            integral = false;
+            position++;
+            if (position < length && (buffer[position] == '+' || buffer[position] == '-')) {
+                position++;
+            }
+
+            int exponent = this.digits(position);
+            if (exponent == 0) {
+                throw this.unexpected(position);
+            }
+            position += exponent;
+        }
+
+        this.terminated(position);
+
+        if (!integral) {
+            return Double.parseDouble(new String(buffer, start, position - start, StandardCharsets.ISO_8859_1));
+        }
+
+        if (digits <= 19) {
+            // accumulated as a negative value, like Long.parseLong does, to reach Long.MIN_VALUE
+            long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+            long value = 0;
+            boolean overflow = false;
+
+            for (int i = position - digits; i < position && !overflow; i++) {
+                int digit = buffer[i] - '0';
+                overflow = value < limit / 10 || value * 10 < limit + digit;
+                value = value * 10 - digit;
+            }
+
+            if (!overflow) {
+                value = negative ? value : -value;
+
+                return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value;
+            }
+        }
+
+        return new BigInteger(new String(buffer, start, position - start, StandardCharsets.ISO_8859_1));
+    }
+
+    private int digits(int position) {
+        int start = position;
+        while (position < length && buffer[position] >= '0' && buffer[position] <= '9') {
+            position++;
+        }
+
+        return position - start;
+    }
+
+    /**
+     * A scalar must be followed by whitespace, a separator or the end of its container.
+     */
+    private void terminated(int position) throws IOException {
+        if (position >= length) {
+            return;
+        }
+
+        switch (buffer[position]) {
+            case ' ', '\t', '\r', '\n', ',', ']', '}' -> {
+            }
+            default -> throw this.unexpected(position);
+        }
+    }
+
+    private byte byteAt(int position) throws IOException {
+        if (position >= length) {
+            throw this.unexpected(position);
+        }
+
+        return buffer[position];
+    }
+
+    private IOException unexpected(int position) {
+        if (position >= length) {
+            return new IOException("Unexpected end of input at byte offset " + (offset + length));
+        }
+
+        return new IOException("Unexpected character '" + (char) (buffer[position] & 0xff) + "' at byte offset " + (offset + position));
+    }
+
+    /**
+     * Thrown when a value continues past the indexed lines, which only happens for a value spanning several lines at the
+     * end of a buffer, so a single instance without stack trace is reused.
+     */
+    private static final class IncompleteValueException extends IOException {
+        private static final IncompleteValueException INSTANCE = new IncompleteValueException();
+
+        private IncompleteValueException() {
+            super("Incomplete value", null);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.kestra.plugin.serdes.json;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * A {@link StructuralIndexer} comparing 64 bytes at a time with the JDK Vector API, the classification of the bytes is then
+ * done on 64 bits masks like simdjson does: escaped quotes are removed, strings are found with a prefix xor of the quotes
+ * and the structural characters inside strings are dropped.
+ * <p>
+ * This is the only class depending on the {@code jdk.incubator.vector} module, it must not be loaded when the module is missing,
+ * see {@link StructuralJsonReader#available()}.
+ */
+final class VectorStructuralIndexer implements StructuralIndexer {
+    private static final int BLOCK_SIZE = 64;
+    private static final long EVEN_BITS = 0x5555555555555555L;
+
+    // a block is one 64 bits mask, wider vectors can't be packed in it
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED.length() > BLOCK_SIZE ?
+        ByteVector.SPECIES_512 :
+        ByteVector.SPECIES_PREFERRED;
+
+    private final byte[] last = new byte[BLOCK_SIZE];
+    private int[] positions = new int[16 * 1024];
+    private int lastNewLine;
+
+    // state carried from a block to the next one
+    private long escapedCarry;
+    private long inStringCarry;
+    private long scalarCarry;
+
+    // masks of the current block
+    private long quote;
+    private long backslash;
+    private long operator;
+    private long whitespace;
+    private long newLine;
+    private long control;
+
+    @Override
+    public int index(byte[] buffer, int length) {
+        int count = 0;
+        lastNewLine = -1;
+        escapedCarry = 0;
+        inStringCarry = 0;
+        scalarCarry = 0;
+
+        for (int block = 0; block < length; block += BLOCK_SIZE) {
+            if (block + BLOCK_SIZE <= length) {
+                this.classify(buffer, block);
+            } else {
+                // the last partial block is padded with spaces, which are never structural
+                Arrays.fill(last, (byte) ' ');
+                System.arraycopy(buffer, block, last, 0, length - block);
+                this.classify(last, 0);
+            }
+
+            long escaped = this.escaped(backslash);
+            long quotes = quote & ~escaped;
+
+            // the opening quote is inside the string, the closing quote is not
+            long inString = prefixXor(quotes) ^ inStringCarry;
+            inStringCarry = inString >> 63;
+
+            long scalar = ~(operator | whitespace | quotes | inString);
+            long scalarStart = scalar & ~(scalar << 1 | scalarCarry);
+            scalarCarry = scalar >>> 63;
+
+            long lineFeeds = newLine & ~inString;
+            if (lineFeeds != 0) {
+                lastNewLine = block + 63 - Long.numberOfLeadingZeros(lineFeeds);
+            }
+
+            // inside strings, the escapes and the invalid control characters are indexed so that strings are never scanned for them
+            long structural = (operator & ~inString) | quotes | scalarStart | ((backslash & ~escaped | control) & inString);
+            if (count + BLOCK_SIZE > positions.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+            }
+
+            while (structural != 0) {
+                positions[count++] = block + Long.numberOfTrailingZeros(structural);
+                structural &= structural - 1;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int[] positions() {
+        return positions;
+    }
+
+    @Override
+    public int lastNewLine() {
+        return lastNewLine;
+    }
+
+    private void classify(byte[] bytes, int offset) {
+        quote = 0;
+        backslash = 0;
+        operator = 0;
+        whitespace = 0;
+        newLine = 0;
+        control = 0;
+
+        for (int lane = 0; lane < BLOCK_SIZE; lane += SPECIES.length()) {
+            ByteVector vector = ByteVector.fromArray(SPECIES, bytes, offset + lane);
+            // '[' and ']' are '{' and '}' without the 0x20 bit
+            ByteVector lower = vector.or((byte) 0x20);
+
+            quote |= vector.eq((byte) '"').toLong() << lane;
+            backslash |= vector.eq((byte) '\\').toLong() << lane;
+            operator |= lower.eq((byte) '{').or(lower.eq((byte) '}')).or(vector.eq((byte) ':')).or(vector.eq((byte) ',')).toLong() << lane;
+
+            long lineFeed = vector.eq((byte) '\n').toLong();
+            newLine |= lineFeed << lane;
+            whitespace |= (lineFeed | vector.eq((byte) ' ').or(vector.eq((byte) '\t')).or(vector.eq((byte) '\r')).toLong()) << lane;
+            control |= vector.compare(VectorOperators.UNSIGNED_LT, (byte) 0x20).toLong() << lane;
+        }
+    }
+
+    /**
+     * @return the characters escaped by an odd sequence of backslashes
+     */
+    private long escaped(long backslashes) {
+        backslashes &= ~escapedCarry;
+        long followsEscape = backslashes << 1 | escapedCarry;
+        long oddSequenceStarts = backslashes & ~EVEN_BITS & ~followsEscape;
+
+        long sequencesStartingOnEvenBits = oddSequenceStarts + backslashes;
+        // a sequence running to the end of the block overflows, the first character of the next block is then escaped
+        escapedCarry = Long.compareUnsigned(sequencesStartingOnEvenBits, oddSequenceStarts) < 0 ? 1 : 0;
+
+        long invertMask = sequencesStartingOnEvenBits << 1;
+
+        return (EVEN_BITS ^ invertMask) & followsEscape;
+    }
+
+    private static long prefixXor(long bits) {
+        bits ^= bits << 1;
+        bits ^= bits << 2;
+        bits ^= bits << 4;
+        bits ^= bits << 8;
+        bits ^= bits << 16;
+        bits ^= bits << 32;
+
+        return bits;
+    }
+}
@@ -0,0 +1,98 @@
+package io.kestra.plugin.serdes.parquet;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.serdes.avro.AbstractAvroConverter;
+import io.kestra.plugin.serdes.avro.AvroConverter;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.HadoopOutputFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.apache.parquet.column.ParquetProperties.WriterVersion.PARQUET_1_0;
+import static org.apache.parquet.column.ParquetProperties.WriterVersion.PARQUET_2_0;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+public abstract class AbstractParquetConverter extends AbstractAvroConverter {
+    // the option enums stay nested in IonToParquet, their class names are part of the plugin api
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "The compression to used"
+    )
+    protected Property<IonToParquet.CompressionCodec> compressionCodec = Property.of(IonToParquet.CompressionCodec.GZIP);
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Target row group size"
+    )
+    protected Property<IonToParquet.Version> version = Property.of(IonToParquet.Version.V2);
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Target row group size"
+    )
+    protected Property<Long> rowGroupSize = Property.of((long) ParquetWriter.DEFAULT_BLOCK_SIZE);
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Target page size"
+    )
+    protected Property<Integer> pageSize = Property.of(ParquetWriter.DEFAULT_PAGE_SIZE);
+
+    @Builder.Default
+    @io.swagger.v3.oas.annotations.media.Schema(
+        title = "Max dictionary page size"
+    )
+    protected Property<Integer> dictionaryPageSize = Property.of(ParquetWriter.DEFAULT_PAGE_SIZE);
+
+    static {
+        ParquetTools.handleLogger();
+
+        // We initialize snappy in a static initializer block, so it is done when the plugin is loaded by the plugin registry,
+        // and not at when it is executed by the Worker to prevent issues with Java Security that prevent writing on /tmp.
+        ParquetTools.initSnappy();
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    protected File parquetTempFile(RunContext runContext) throws IOException {
+        // temp file, we create multiple useless tree to avoid incompatibility with EE javaSecurity
+        java.nio.file.Path tempDir = runContext.workingDir().path().resolve(IdUtils.create());
+        tempDir.toFile().mkdirs();
+
+        return Files.createTempFile(tempDir, "", ".parquet").toFile();
+    }
+
+    protected AvroParquetWriter.Builder<GenericData.Record> parquetWriter(RunContext runContext, File tempFile, Schema schema) throws IOException, IllegalVariableEvaluationException {
+        CompressionCodecName codec = runContext.render(this.compressionCodec).as(IonToParquet.CompressionCodec.class).orElseThrow().parquetCodec();
+        HadoopOutputFile outfileFile = HadoopOutputFile.fromPath(new Path(tempFile.getPath()), new Configuration());
+
+        return AvroParquetWriter
+            .<GenericData.Record>builder(outfileFile)
+            .withWriterVersion(runContext.render(version).as(IonToParquet.Version.class).orElseThrow() == IonToParquet.Version.V2 ? PARQUET_2_0 : PARQUET_1_0)
+            .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+            .withCompressionCodec(codec)
+            .withDictionaryEncoding(true)
+            .withDictionaryPageSize(runContext.render(dictionaryPageSize).as(Integer.class).orElseThrow())
+            .withPageSize(runContext.render(pageSize).as(Integer.class).orElseThrow())
+            .withRowGroupSize(runContext.render(rowGroupSize).as(Long.class).orElseThrow())
+            .withDataModel(AvroConverter.genericData())
+            .withSchema(schema);
+    }
+}
@@ -6,30 +6,18 @@ import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.utils.IdUtils;
-import io.kestra.plugin.serdes.avro.AbstractAvroConverter;
-import io.kestra.plugin.serdes.avro.AvroConverter;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
-import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetWriter;
-import org.apache.parquet.hadoop.ParquetFileWriter;
-import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
-import org.apache.parquet.hadoop.util.HadoopOutputFile;
 
 import java.io.*;
 import java.net.URI;
-import java.nio.file.Files;
 import java.util.Locale;
 
-import static org.apache.parquet.column.ParquetProperties.WriterVersion.PARQUET_1_0;
-import static org.apache.parquet.column.ParquetProperties.WriterVersion.PARQUET_2_0;
-
 @SuperBuilder
 @ToString
 @EqualsAndHashCode
@@ -85,58 +73,16 @@ import static org.apache.parquet.column.ParquetProperties.WriterVersion.PARQUET_
     },
     aliases = "io.kestra.plugin.serdes.parquet.ParquetWriter"
 )
-public class IonToParquet extends AbstractAvroConverter implements RunnableTask<IonToParquet.Output> {
+public class IonToParquet extends AbstractParquetConverter implements RunnableTask<IonToParquet.Output> {
     @NotNull
     @io.swagger.v3.oas.annotations.media.Schema(
         title = "Source file URI"
     )
     private Property<String> from;
 
-    @Builder.Default
-    @io.swagger.v3.oas.annotations.media.Schema(
-        title = "The compression to used"
-    )
-    Property<CompressionCodec> compressionCodec = Property.of(CompressionCodec.GZIP);
-
-    @Builder.Default
-    @io.swagger.v3.oas.annotations.media.Schema(
-        title = "Target row group size"
-    )
-    private Property<Version> version = Property.of(Version.V2);
-
-    @Builder.Default
-    @io.swagger.v3.oas.annotations.media.Schema(
-        title = "Target row group size"
-    )
-    private Property<Long> rowGroupSize = Property.of((long) org.apache.parquet.hadoop.ParquetWriter.DEFAULT_BLOCK_SIZE);
-
-    @Builder.Default
-    @io.swagger.v3.oas.annotations.media.Schema(
-        title = "Target page size"
-    )
-    private Property<Integer> pageSize = Property.of(ParquetWriter.DEFAULT_PAGE_SIZE);
-
-    @Builder.Default
-    @io.swagger.v3.oas.annotations.media.Schema(
-        title = "Max dictionary page size"
-    )
-    private Property<Integer> dictionaryPageSize = Property.of(ParquetWriter.DEFAULT_PAGE_SIZE);
-
-    static {
-        ParquetTools.handleLogger();
-
-        // We initialize snappy in a static initializer block, so it is done when the plugin is loaded by the plugin registry,
-        // and not at when it is executed by the Worker to prevent issues with Java Security that prevent writing on /tmp.
-        ParquetTools.initSnappy();
-    }
-
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     @Override
     public Output run(RunContext runContext) throws Exception {
-        // temp file, we create multiple useless tree to avoid incompatibility with EE javaSecurity
-        java.nio.file.Path tempDir = runContext.workingDir().path().resolve(IdUtils.create());
-        tempDir.toFile().mkdirs();
-        File tempFile = Files.createTempFile(tempDir, "", ".parquet").toFile();
+        File tempFile = this.parquetTempFile(runContext);
 
         BufferedOutputStream output = new BufferedOutputStream(new FileOutputStream(tempFile));
 
@@ -148,20 +94,7 @@ public class IonToParquet extends AbstractAvroConverter implements RunnableTask<
         URI from = new URI(runContext.render(this.from).as(String.class).orElseThrow());
 
         // parquet options
-        CompressionCodecName codec = runContext.render(this.compressionCodec).as(CompressionCodec.class).orElseThrow().parquetCodec();
-        HadoopOutputFile outfileFile = HadoopOutputFile.fromPath(new Path(tempFile.getPath()), new Configuration());
-
-        AvroParquetWriter.Builder<GenericData.Record> parquetWriterBuilder = AvroParquetWriter
-            .<GenericData.Record>builder(outfileFile)
-            .withWriterVersion(runContext.render(version).as(Version.class).orElseThrow() == Version.V2 ? PARQUET_2_0 : PARQUET_1_0)
-            .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
-            .withCompressionCodec(codec)
-            .withDictionaryEncoding(true)
-            .withDictionaryPageSize(runContext.render(dictionaryPageSize).as(Integer.class).orElseThrow())
-            .withPageSize(runContext.render(pageSize).as(Integer.class).orElseThrow())
-            .withRowGroupSize(runContext.render(rowGroupSize).as(Long.class).orElseThrow())
-            .withDataModel(AvroConverter.genericData())
-            .withSchema(schema);
+        AvroParquetWriter.Builder<GenericData.Record> parquetWriterBuilder = this.parquetWriter(runContext, tempFile, schema);
 
         // convert
         try (
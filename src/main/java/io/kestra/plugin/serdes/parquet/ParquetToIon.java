@@ -99,9 +99,12 @@ public class ParquetToIon extends Task implements RunnableTask<ParquetToIon.Outp
             Writer output = new BufferedWriter(new FileWriter(tempFile), FileSerde.BUFFER_SIZE)
         ) {
 
+            // union branches are resolved once per file
+            AvroDeserializer avroDeserializer = new AvroDeserializer();
+
             Flux<Map<String, Object>> flowable = Flux
                 .create(this.nextRow(parquetReader), FluxSink.OverflowStrategy.BUFFER)
-                .map(AvroDeserializer::recordDeserializer);
+                .map(avroDeserializer::deserialize);
 
             Mono<Long> count = FileSerde.writeAll(output, flowable);
             Long lineCount = count.block();
@@ -10,6 +10,7 @@ import io.kestra.plugin.serdes.SerdesUtils;
 import io.kestra.plugin.serdes.csv.CsvToIon;
 import io.kestra.plugin.serdes.json.JsonToIon;
 import jakarta.inject.Inject;
+import lombok.experimental.SuperBuilder;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
 import org.apache.avro.SchemaParseException;
@@ -23,7 +24,11 @@ import org.junit.jupiter.api.Test;
 
 import java.io.*;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -387,6 +392,81 @@ public class AvroConverterTest {
         assertThat(re.getCause().getCause().getCause().getCause().getClass().getSimpleName(), is("NullPointerException"));
     }
 
+    @Test
+    void recursiveSchema() throws Exception {
+        Schema schema = new Schema.Parser().parse("""
+            {"type": "record", "name": "node", "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "children", "type": {"type": "array", "items": "node"}}
+            ]}
+            """);
+
+        AvroConverter avroConverter = AvroConverter.builder().build();
+
+        for (int i = 0; i < 2; i++) {
+            GenericData.Record record = avroConverter.fromMap(schema, ImmutableMap.of(
+                "name", "root " + i,
+                "children", List.of(ImmutableMap.of("name", "leaf", "children", List.of()))
+            ));
+            GenericRecord serialized = Utils.test(schema, record);
+
+            assertThat(serialized.get("name").toString(), is("root " + i));
+            assertThat(((GenericRecord) ((List<?>) serialized.get("children")).getFirst()).get("name").toString(), is("leaf"));
+        }
+    }
+
+    @Test
+    void subclassOverrides() throws Exception {
+        Schema schema = new Schema.Parser().parse("""
+            {"type": "record", "name": "row", "fields": [
+                {"name": "name", "type": ["null", "string"]},
+                {"name": "values", "type": {"type": "array", "items": "int"}},
+                {"name": "active", "type": "boolean"}
+            ]}
+            """);
+
+        AvroConverter avroConverter = OverridingConverter.builder().build();
+
+        for (int i = 0; i < 2; i++) {
+            GenericData.Record record = avroConverter.fromMap(schema, ImmutableMap.of(
+                "NAME", "-",
+                "VALUES", List.of("1", "2", "3"),
+                "ACTIVE", " yes "
+            ));
+            GenericRecord serialized = Utils.test(schema, record);
+
+            assertThat(serialized.get("name"), is(nullValue()));
+            assertThat(new ArrayList<>((List<?>) serialized.get("values")), is(List.of(3, 2, 1)));
+            assertThat(serialized.get("active"), is(true));
+        }
+    }
+
+    @SuperBuilder
+    static class OverridingConverter extends AvroConverter {
+        @Override
+        protected Object getValueFromNameOrAliases(Schema.Field field, Map<String, Object> data) {
+            return data.get(field.name().toUpperCase());
+        }
+
+        @Override
+        protected List<Object> complexArray(Schema schema, Object data) throws IllegalCellConversion {
+            List<Object> values = new ArrayList<>(super.complexArray(schema, data));
+            Collections.reverse(values);
+
+            return values;
+        }
+
+        @Override
+        protected Object complexUnion(Schema schema, Object data) {
+            return "-".equals(data) ? null : super.complexUnion(schema, data);
+        }
+
+        @Override
+        protected boolean contains(List<String> list, String data) {
+            return super.contains(list, data.trim());
+        }
+    }
+
     public static class Utils {
         public static void oneField(Object v, Object expected, Schema type, Boolean inferAllFields) throws AvroConverter.IllegalRowConvertion, AvroConverter.IllegalStrictRowConversion {
             oneField(AvroConverter.builder().inferAllFields(inferAllFields).build(), v, expected, type);
@@ -0,0 +1,55 @@
+package io.kestra.plugin.serdes.avro;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class AvroDeserializerTest {
+    private static final Schema SCHEMA = SchemaBuilder.record("Row").fields()
+        .name("value").type(Schema.createUnion(
+            Schema.create(Schema.Type.NULL),
+            Schema.create(Schema.Type.LONG),
+            Schema.create(Schema.Type.STRING),
+            LogicalTypes.date().addToSchema(Schema.create(Schema.Type.INT))
+        )).noDefault()
+        .endRecord();
+
+    @Test
+    void unionBranches() {
+        AvroDeserializer avroDeserializer = new AvroDeserializer();
+
+        // the second value of each class goes through the cached branch
+        for (int i = 0; i < 2; i++) {
+            assertThat(avroDeserializer.deserialize(record(new Utf8("text"))).get("value"), is("text"));
+            assertThat(avroDeserializer.deserialize(record(12L)).get("value"), is(12L));
+            assertThat(avroDeserializer.deserialize(record(19753)).get("value"), is(LocalDate.ofEpochDay(19753)));
+            assertThat(avroDeserializer.deserialize(record(LocalDate.ofEpochDay(19753))).get("value"), is(LocalDate.ofEpochDay(19753)));
+            assertThat(avroDeserializer.deserialize(record(null)).get("value"), nullValue());
+        }
+    }
+
+    @Test
+    void unresolvedUnion() {
+        // no branch matches the datum type, each branch is tried as before
+        Map<String, Object> row = AvroDeserializer.recordDeserializer(record(BigInteger.TEN));
+
+        assertThat(row.get("value"), is(BigInteger.TEN));
+    }
+
+    private static GenericData.Record record(Object value) {
+        GenericData.Record record = new GenericData.Record(SCHEMA);
+        record.put("value", value);
+
+        return record;
+    }
+}
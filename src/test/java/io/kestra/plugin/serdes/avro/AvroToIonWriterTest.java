@@ -6,19 +6,32 @@ import com.google.common.io.Files;
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.plugin.serdes.SerdesUtils;
 import jakarta.inject.Inject;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
 import org.junit.jupiter.api.Test;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.*;
 
 
 @KestraTest
@@ -42,6 +55,57 @@ public class AvroToIonWriterTest {
         test("avro/null.avro");
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void nullFirstUnions() throws Exception {
+        Schema child = SchemaBuilder.record("Child").fields().requiredString("name").endRecord();
+        Schema date = LogicalTypes.date().addToSchema(Schema.create(Schema.Type.INT));
+        Schema schema = SchemaBuilder.record("Parent").fields()
+            .name("child").type(Schema.createUnion(Schema.create(Schema.Type.NULL), child)).noDefault()
+            .name("text").type(Schema.createUnion(Schema.create(Schema.Type.NULL), Schema.create(Schema.Type.STRING))).noDefault()
+            .name("day").type(Schema.createUnion(Schema.create(Schema.Type.NULL), date)).noDefault()
+            .endRecord();
+
+        File sourceFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".avro");
+        try (DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(schema))) {
+            writer.create(schema, sourceFile);
+
+            for (int i = 0; i < 3; i++) {
+                GenericData.Record childRecord = new GenericData.Record(child);
+                childRecord.put("name", "child " + i);
+
+                GenericData.Record record = new GenericData.Record(schema);
+                record.put("child", i == 1 ? null : childRecord);
+                record.put("text", i == 1 ? null : "text " + i);
+                record.put("day", i == 1 ? null : (int) LocalDate.parse("2024-01-31").toEpochDay());
+                writer.append(record);
+            }
+        }
+
+        AvroToIon reader = AvroToIon.builder()
+            .id(AvroToIonWriterTest.class.getSimpleName())
+            .type(AvroToIon.class.getName())
+            .from(Property.of(this.serdesUtils.resourceToStorageObject(sourceFile).toString()))
+            .build();
+        AvroToIon.Output output = reader.run(TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of()));
+
+        List<Map<String, Object>> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, output.getUri())))) {
+            rows = FileSerde.readAll(input).map(o -> (Map<String, Object>) o).collectList().block();
+        }
+
+        assertThat(rows.size(), is(3));
+        assertThat(((Map<String, Object>) rows.getFirst().get("child")).get("name"), is("child 0"));
+        assertThat(rows.getFirst().get("text"), is("text 0"));
+        assertThat(rows.getFirst().get("day"), not(instanceOf(Number.class)));
+        assertThat(rows.getFirst().get("day").toString(), startsWith("2024-01-31"));
+        assertThat(rows.get(1).get("child"), nullValue());
+        assertThat(rows.get(1).get("text"), nullValue());
+        assertThat(rows.get(1).get("day"), nullValue());
+        assertThat(((Map<String, Object>) rows.get(2).get("child")).get("name"), is("child 2"));
+        assertThat(rows.get(2).get("text"), is("text 2"));
+    }
+
     private void test(String file) throws Exception {
         File sourceFile = SerdesUtils.resourceToFile(file);
         URI source = this.serdesUtils.resourceToStorageObject(sourceFile);
@@ -131,4 +131,37 @@ class IonToAvroTest {
             writer.run(TestsUtils.mockRunContext(runContextFactory, writer, ImmutableMap.of()));
         }
     }
+
+    @Test
+    void parallel() throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
+        try (OutputStream output = new FileOutputStream(tempFile)) {
+            for (int i = 0; i < 2500; i++) {
+                FileSerde.write(output, ImmutableMap.of("id", String.valueOf(i), "name", "name " + i));
+            }
+        }
+
+        URI uri = storageInterface.put(null, null, URI.create("/" + IdUtils.create() + ".ion"), new FileInputStream(tempFile));
+
+        IonToAvro writer = IonToAvro.builder()
+            .id(IonToAvro.class.getSimpleName())
+            .type(IonToAvro.class.getName())
+            .from(Property.of(uri.toString()))
+            .schema("{\"type\": \"record\", \"name\": \"Row\", \"fields\": [{\"name\": \"id\", \"type\": \"long\"}, {\"name\": \"name\", \"type\": [\"null\", \"string\"]}]}")
+            .parallelism(Property.of(4))
+            .build();
+
+        IonToAvro.Output run = writer.run(TestsUtils.mockRunContext(runContextFactory, writer, ImmutableMap.of()));
+
+        try (DataFileStream<GenericRecord> dataFileReader = new DataFileStream<>(this.storageInterface.get(null, null, run.getUri()), new GenericDatumReader<>())) {
+            long expected = 0;
+            for (GenericRecord genericRecord : dataFileReader) {
+                assertThat((Long) genericRecord.get("id"), is(expected));
+                assertThat(genericRecord.get("name").toString(), is("name " + expected));
+                expected++;
+            }
+
+            assertThat(expected, is(2500L));
+        }
+    }
 }
@@ -1,17 +1,25 @@
 package io.kestra.plugin.serdes.avro.converter;
 
+import io.kestra.plugin.serdes.avro.AvroConverter;
 import io.kestra.plugin.serdes.avro.AvroConverterTest;
+import lombok.experimental.SuperBuilder;
 import org.apache.avro.Schema;
 import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
 public class ComplexUnionTest {
     static Stream<Arguments> source() {
         return Stream.of(
@@ -19,7 +27,11 @@ public class ComplexUnionTest {
             Arguments.of("null", Arrays.asList(Schema.Type.BOOLEAN, Schema.Type.NULL), null),
             Arguments.of("1", Arrays.asList(Schema.Type.INT, Schema.Type.NULL), 1),
             Arguments.of("n/a", Arrays.asList(Schema.Type.NULL, Schema.Type.STRING), null),
-            Arguments.of("n/a", Arrays.asList(Schema.Type.STRING, Schema.Type.NULL), new Utf8("n/a"))
+            Arguments.of("n/a", Arrays.asList(Schema.Type.STRING, Schema.Type.NULL), new Utf8("n/a")),
+            Arguments.of("12", Arrays.asList(Schema.Type.NULL, Schema.Type.LONG, Schema.Type.STRING), 12L),
+            Arguments.of("abc", Arrays.asList(Schema.Type.NULL, Schema.Type.LONG, Schema.Type.STRING), new Utf8("abc")),
+            Arguments.of(12, Arrays.asList(Schema.Type.NULL, Schema.Type.BOOLEAN, Schema.Type.DOUBLE), 12D),
+            Arguments.of("true", Arrays.asList(Schema.Type.NULL, Schema.Type.INT, Schema.Type.BOOLEAN), true)
         );
     }
 
@@ -32,4 +44,82 @@ public class ComplexUnionTest {
             .collect(Collectors.toList())
         ), false);
     }
+
+    /**
+     * The guards pick the branch of the usual csv and json values, the unions never try a branch that fails.
+     */
+    @Test
+    void noFailedBranch() throws Exception {
+        List<Schema.Type> nullableLong = Arrays.asList(Schema.Type.NULL, Schema.Type.LONG, Schema.Type.STRING);
+        List<Schema.Type> nullableInt = Arrays.asList(Schema.Type.NULL, Schema.Type.INT, Schema.Type.BOOLEAN);
+        List<Schema.Type> nullableDouble = Arrays.asList(Schema.Type.NULL, Schema.Type.DOUBLE, Schema.Type.STRING);
+        CountingConverter converter = CountingConverter.builder().build();
+
+        for (int i = 0; i < 2; i++) {
+            union(converter, "12", nullableLong, 12L);
+            union(converter, "abc", nullableLong, new Utf8("abc"));
+            union(converter, "", nullableLong, null);
+            union(converter, 12, nullableLong, 12L);
+            union(converter, null, nullableLong, null);
+            union(converter, "1", nullableInt, 1);
+            union(converter, "true", nullableInt, true);
+            union(converter, false, nullableInt, false);
+            union(converter, "1.5", nullableDouble, 1.5D);
+            union(converter, 2.5D, nullableDouble, 2.5D);
+            union(converter, "n/a", nullableDouble, null);
+            union(converter, "text", nullableDouble, new Utf8("text"));
+        }
+
+        assertThat(converter.failures.get(), is(0));
+    }
+
+    private static void union(AvroConverter converter, Object v, List<Schema.Type> schemas, Object expected) throws Exception {
+        AvroConverterTest.Utils.oneField(converter, v, expected, Schema.createUnion(schemas
+            .stream()
+            .map(Schema::create)
+            .collect(Collectors.toList())
+        ));
+    }
+
+    /**
+     * Count the primitive conversions that fail, each one being an exception swallowed by a union.
+     */
+    @SuperBuilder
+    static class CountingConverter extends AvroConverter {
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        protected Integer primitiveNull(Object data) {
+            return this.count(() -> super.primitiveNull(data));
+        }
+
+        @Override
+        protected Integer primitiveInt(Object data) {
+            return this.count(() -> super.primitiveInt(data));
+        }
+
+        @Override
+        protected Long primitiveLong(Object data) {
+            return this.count(() -> super.primitiveLong(data));
+        }
+
+        @Override
+        protected Double primitiveDouble(Object data) {
+            return this.count(() -> super.primitiveDouble(data));
+        }
+
+        @Override
+        public Boolean primitiveBool(Object data) {
+            return this.count(() -> super.primitiveBool(data));
+        }
+
+        private <T> T count(Supplier<T> conversion) {
+            try {
+                return conversion.get();
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+                throw e;
+            }
+        }
+    }
 }
@@ -57,7 +57,10 @@ public class LogicalDateTimeTest {
             Arguments.of("2019-12-26 12:13 +02", "yyyy-MM-dd' 'HH:mm' 'X", ZonedDateTime.parse("2019-12-26T12:13+02:00", DateTimeFormatter.ISO_DATE_TIME).toInstant()),
             Arguments.of("2019-12-26 12:13:59 +02", "yyyy-MM-dd' 'HH:mm:ss' 'X", ZonedDateTime.parse("2019-12-26T12:13:59+02:00", DateTimeFormatter.ISO_DATE_TIME).toInstant()),
             Arguments.of("2020-04-30 08:00:00 +0200", "yyyy-MM-dd' 'HH:mm:ss' 'XXXX", ZonedDateTime.parse("2020-04-30T08:00:00+02:00", DateTimeFormatter.ISO_DATE_TIME).toInstant()),
-            Arguments.of("2021-05-05T12:21:00+02:00", "yyyy-MM-dd'T'HH:mm:ssXXX", ZonedDateTime.parse("2021-05-05T12:21:00+02:00", DateTimeFormatter.ISO_DATE_TIME).toInstant())
+            Arguments.of("2021-05-05T12:21:00+02:00", "yyyy-MM-dd'T'HH:mm:ssXXX", ZonedDateTime.parse("2021-05-05T12:21:00+02:00", DateTimeFormatter.ISO_DATE_TIME).toInstant()),
+            Arguments.of("2021-05-05T12:21:00Z", "yyyy-MM-dd'T'HH:mm:ssXXX", ZonedDateTime.parse("2021-05-05T12:21:00Z", DateTimeFormatter.ISO_DATE_TIME).toInstant()),
+            Arguments.of("2021-05-05T12:21:00-05:30", "yyyy-MM-dd'T'HH:mm:ss[XXX]", ZonedDateTime.parse("2021-05-05T12:21:00-05:30", DateTimeFormatter.ISO_DATE_TIME).toInstant()),
+            Arguments.of("2021-05-05 12:21:00", "yyyy-MM-dd HH:mm:ss", LocalDateTime.parse("2021-05-05T12:21:00", DateTimeFormatter.ISO_DATE_TIME).atZone(ZoneId.systemDefault()).toInstant())
         );
     }
 
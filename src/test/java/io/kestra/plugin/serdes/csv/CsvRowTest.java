@@ -0,0 +1,67 @@
+package io.kestra.plugin.serdes.csv;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import io.kestra.core.serializers.JacksonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class CsvRowTest {
+    @Test
+    void duplicatedHeader() {
+        CsvRow.Header header = CsvRow.Header.of(List.of("a", "b", "a", "c"));
+        CsvRow row = header.row(new Object[]{"3", "2", "4"});
+
+        assertThat(header.names(), contains("a", "b", "c"));
+        assertThat(header.column(0), is(2));
+        assertThat(row.get("a"), is("3"));
+        assertThat(row.get("d"), nullValue());
+        assertThat(row, is(Map.of("a", "3", "b", "2", "c", "4")));
+    }
+
+    @Test
+    void serialize() throws Exception {
+        CsvRow.Header header = CsvRow.Header.of(List.of("a", "b"));
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("a", "1");
+        expected.put("b", 2L);
+
+        assertThat(
+            JacksonMapper.ofIon().writeValueAsString(header.row(new Object[]{"1", 2L})),
+            is(JacksonMapper.ofIon().writeValueAsString(expected))
+        );
+    }
+
+    @Test
+    void internValues() throws Exception {
+        StringBuilder content = new StringBuilder("status,id\n");
+        for (int i = 0; i < CsvRowMapper.INTERN_MAX_CARDINALITY * 2; i++) {
+            content.append(i % 2 == 0 ? "open" : "closed").append(",").append(i).append("\n");
+        }
+
+        List<CsvRecord> records;
+        try (CsvReader<CsvRecord> csvReader = CsvReader.builder().ofCsvRecord(content.toString())) {
+            records = csvReader.stream().toList();
+        }
+
+        CsvRowMapper mapper = new CsvRowMapper(CsvRow.Header.of(records.getFirst().getFields()), null, true);
+        List<CsvRow> rows = records.subList(1, records.size()).stream().map(r -> (CsvRow) mapper.apply(r)).toList();
+
+        assertThat(rows.get(0).get("status"), sameInstance(rows.get(2).get("status")));
+        assertThat(rows.get(1).get("status"), sameInstance(rows.getLast().get("status")));
+        assertThat(rows.getLast().get("id"), is(String.valueOf(CsvRowMapper.INTERN_MAX_CARDINALITY * 2 - 1)));
+
+        CsvRowMapper.Interner interner = new CsvRowMapper.Interner();
+        for (int i = 0; i <= CsvRowMapper.INTERN_MAX_CARDINALITY; i++) {
+            interner.intern(String.valueOf(i));
+        }
+
+        assertThat(interner.isEnabled(), is(false));
+        assertThat(interner.intern(new String("1")), not(sameInstance(interner.intern(new String("1")))));
+    }
+}
@@ -7,19 +7,29 @@ import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.plugin.serdes.SerdesUtils;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStreamReader;
+import java.math.BigDecimal;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
 class CsvToIonWriterTest {
@@ -33,6 +43,10 @@ class CsvToIonWriterTest {
     SerdesUtils serdesUtils;
 
     private void test(String file, boolean header) throws Exception {
+        this.test(file, header, 1);
+    }
+
+    private void test(String file, boolean header, int parallelism) throws Exception {
         File sourceFile = SerdesUtils.resourceToFile(file);
         URI source = this.serdesUtils.resourceToStorageObject(sourceFile);
 
@@ -42,6 +56,7 @@ class CsvToIonWriterTest {
             .from(Property.of(source.toString()))
             .fieldSeparator(Property.of(";".charAt(0)))
             .header(Property.of(header))
+            .parallelism(Property.of(parallelism))
             .build();
         CsvToIon.Output readerRunOutput = reader.run(TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of()));
 
@@ -72,6 +87,407 @@ class CsvToIonWriterTest {
         this.test("csv/insurance_sample_no_header.csv", false);
     }
 
+    @Test
+    void parallel() throws Exception {
+        this.test("csv/insurance_sample.csv", true, 4);
+        this.test("csv/insurance_sample_no_header.csv", false, 3);
+    }
+
+    @Test
+    void parallelMultiline() throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".csv");
+        StringBuilder content = new StringBuilder("id,text\r\n");
+        for (int i = 0; i < 500; i++) {
+            content.append(i).append(",\"line ").append(i).append("\nwith \"\"quotes\"\", and\r\nbreaks\"\r\n");
+        }
+        Files.writeString(tempFile.toPath(), content.toString());
+        URI source = this.serdesUtils.resourceToStorageObject(tempFile);
+
+        CsvToIon sequential = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .skipRows(Property.of(2))
+            .build();
+        CsvToIon.Output sequentialOutput = sequential.run(TestsUtils.mockRunContext(runContextFactory, sequential, ImmutableMap.of()));
+
+        CsvToIon parallel = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .skipRows(Property.of(2))
+            .parallelism(Property.of(8))
+            .build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, parallel, ImmutableMap.of());
+        CsvToIon.Output parallelOutput = parallel.run(runContext);
+
+        assertThat(
+            CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, parallelOutput.getUri()))),
+            is(CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, sequentialOutput.getUri()))))
+        );
+
+        Counter records = (Counter) runContext.metrics()
+            .stream()
+            .filter(metricEntry -> metricEntry.getName().equals("records"))
+            .findFirst()
+            .get();
+
+        assertThat(records.getValue(), is(498D));
+    }
+
+    @Test
+    void parallelLongQuotedField() throws Exception {
+        // a quoted field longer than the window scanned after each split target, its line breaks can't be told from record ends
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".csv");
+        StringBuilder content = new StringBuilder("id,text\n0,\"");
+        content.append("line\n".repeat(1024 * 1024)).append("\"\n");
+        for (int i = 1; i < 100; i++) {
+            content.append(i).append(",text ").append(i).append("\n");
+        }
+        Files.writeString(tempFile.toPath(), content.toString());
+        URI source = this.serdesUtils.resourceToStorageObject(tempFile);
+
+        CsvToIon sequential = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .build();
+        CsvToIon.Output sequentialOutput = sequential.run(TestsUtils.mockRunContext(runContextFactory, sequential, ImmutableMap.of()));
+
+        CsvToIon parallel = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .parallelism(Property.of(4))
+            .build();
+        CsvToIon.Output parallelOutput = parallel.run(TestsUtils.mockRunContext(runContextFactory, parallel, ImmutableMap.of()));
+
+        assertThat(
+            CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, parallelOutput.getUri()))),
+            is(CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, sequentialOutput.getUri()))))
+        );
+    }
+
+    @Test
+    void parallelDifferentFieldCount() throws Exception {
+        // every range starts with a record having the same field count, but not the one of the header
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".csv");
+        StringBuilder content = new StringBuilder("id,name\n");
+        for (int i = 0; i < 1000; i++) {
+            content.append(i).append(",name ").append(i).append(",extra\n");
+        }
+        Files.writeString(tempFile.toPath(), content.toString());
+        URI source = this.serdesUtils.resourceToStorageObject(tempFile);
+
+        CsvToIon reader = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .errorOnDifferentFieldCount(Property.of(true))
+            .parallelism(Property.of(4))
+            .build();
+
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> reader.run(TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of()))
+        );
+        assertThat(e.getMessage(), containsString("first record had 2 fields"));
+    }
+
+    @Test
+    void index() throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".csv");
+        StringBuilder content = new StringBuilder("id,text\r\n");
+        for (int i = 0; i < 1000; i++) {
+            content.append(i).append(",\"line ").append(i).append("\nwith \"\"quotes\"\", and\r\nbreaks\"\r\n");
+        }
+        Files.writeString(tempFile.toPath(), content.toString());
+        URI source = this.serdesUtils.resourceToStorageObject(tempFile);
+
+        CsvToIon indexer = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .indexInterval(Property.of(100))
+            .build();
+        CsvToIon.Output indexerOutput = indexer.run(TestsUtils.mockRunContext(runContextFactory, indexer, ImmutableMap.of()));
+
+        assertThat(indexerOutput.getIndex(), notNullValue());
+
+        CsvToIon sequential = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .skipRows(Property.of(250))
+            .maxRows(Property.of(20))
+            .build();
+        CsvToIon.Output sequentialOutput = sequential.run(TestsUtils.mockRunContext(runContextFactory, sequential, ImmutableMap.of()));
+
+        CsvToIon indexed = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .index(Property.of(indexerOutput.getIndex().toString()))
+            .skipRows(Property.of(250))
+            .maxRows(Property.of(20))
+            .build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, indexed, ImmutableMap.of());
+        CsvToIon.Output indexedOutput = indexed.run(runContext);
+
+        String out = CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, indexedOutput.getUri())));
+        assertThat(out, is(CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, sequentialOutput.getUri())))));
+        assertThat(out, containsString("id:\"250\""));
+
+        Counter records = (Counter) runContext.metrics()
+            .stream()
+            .filter(metricEntry -> metricEntry.getName().equals("records"))
+            .findFirst()
+            .get();
+
+        assertThat(records.getValue(), is(20D));
+    }
+
+    @Test
+    void tail() throws Exception {
+        URI source = URI.create("/" + IdUtils.create() + ".csv");
+        storageInterface.put(null, null, source, new ByteArrayInputStream("id,name\n1,a\n2,b\n3,c\n4,".getBytes(StandardCharsets.UTF_8)));
+
+        CsvToIon reader = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .stateKey(Property.of("tail_" + IdUtils.create()))
+            .build();
+
+        CsvToIon.Output first = reader.run(TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of()));
+        String firstOut = CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, first.getUri())));
+
+        assertThat(firstOut, containsString("{id:\"1\",name:\"a\"}"));
+        assertThat(firstOut, containsString("{id:\"3\",name:\"c\"}"));
+        assertThat(firstOut, not(containsString("\"4\"")));
+
+        storageInterface.put(null, null, source, new ByteArrayInputStream("id,name\n1,a\n2,b\n3,c\n4,d\n5,e\n".getBytes(StandardCharsets.UTF_8)));
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of());
+        CsvToIon.Output second = reader.run(runContext);
+        String secondOut = CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, second.getUri())));
+
+        assertThat(secondOut, not(containsString("\"3\"")));
+        assertThat(secondOut, containsString("{id:\"4\",name:\"d\"}"));
+        assertThat(secondOut, containsString("{id:\"5\",name:\"e\"}"));
+
+        Counter records = (Counter) runContext.metrics()
+            .stream()
+            .filter(metricEntry -> metricEntry.getName().equals("records"))
+            .findFirst()
+            .get();
+
+        assertThat(records.getValue(), is(2D));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void tailCrLf() throws Exception {
+        URI source = URI.create("/" + IdUtils.create() + ".csv");
+        storageInterface.put(null, null, source, new ByteArrayInputStream("id,name\r\n1,a\r\n2,b\r".getBytes(StandardCharsets.UTF_8)));
+
+        CsvToIon reader = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .stateKey(Property.of("tail_" + IdUtils.create()))
+            .build();
+
+        CsvToIon.Output first = reader.run(TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of()));
+        String firstOut = CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, first.getUri())));
+
+        assertThat(firstOut, containsString("{id:\"1\",name:\"a\"}"));
+        assertThat(firstOut, not(containsString("\"2\"")));
+
+        // the LF of the last CRLF is appended after the first run
+        storageInterface.put(null, null, source, new ByteArrayInputStream("id,name\r\n1,a\r\n2,b\r\n3,c\r\n".getBytes(StandardCharsets.UTF_8)));
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of());
+        CsvToIon.Output second = reader.run(runContext);
+
+        List<Map<String, Object>> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, second.getUri())))) {
+            rows = FileSerde.readAll(input).map(o -> (Map<String, Object>) o).collectList().block();
+        }
+
+        assertThat(rows.size(), is(2));
+        assertThat(rows.get(0).get("id"), is("2"));
+        assertThat(rows.get(0).get("name"), is("b"));
+        assertThat(rows.get(1).get("id"), is("3"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void tailInferTypes() throws Exception {
+        URI source = URI.create("/" + IdUtils.create() + ".csv");
+        String stateKey = "tail_" + IdUtils.create();
+        storageInterface.put(null, null, source, new ByteArrayInputStream("id,name\n1,a\n".getBytes(StandardCharsets.UTF_8)));
+
+        CsvToIon inferring = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .stateKey(Property.of(stateKey))
+            .inferTypes(Property.of(true))
+            .build();
+        CsvToIon.Output first = inferring.run(TestsUtils.mockRunContext(runContextFactory, inferring, ImmutableMap.of()));
+
+        assertThat(CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, first.getUri()))), containsString("id:1"));
+
+        // the types saved by the previous run are not applied once inference is disabled
+        storageInterface.put(null, null, source, new ByteArrayInputStream("id,name\n1,a\n2,b\n".getBytes(StandardCharsets.UTF_8)));
+
+        CsvToIon reader = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .stateKey(Property.of(stateKey))
+            .build();
+        CsvToIon.Output second = reader.run(TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of()));
+
+        List<Map<String, Object>> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, second.getUri())))) {
+            rows = FileSerde.readAll(input).map(o -> (Map<String, Object>) o).collectList().block();
+        }
+
+        assertThat(rows.size(), is(1));
+        assertThat(rows.getFirst().get("id"), is("2"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void maxErrors() throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".csv");
+        Files.writeString(tempFile.toPath(), "a,b,c\n1,2,3\n4,5\n6,7,8\n9,\"x,y\",10,11\n12,13,14\n");
+        URI source = this.serdesUtils.resourceToStorageObject(tempFile);
+
+        CsvToIon reader = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .maxErrors(Property.of(2))
+            .build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of());
+        CsvToIon.Output output = reader.run(runContext);
+
+        List<Map<String, Object>> rejects;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, output.getRejects())))) {
+            rejects = FileSerde.readAll(input).map(o -> (Map<String, Object>) o).collectList().block();
+        }
+
+        assertThat(rejects.size(), is(2));
+        assertThat(((Number) rejects.get(0).get("line")).longValue(), is(3L));
+        assertThat(rejects.get(0).get("text"), is("4,5"));
+        assertThat(((Number) rejects.get(1).get("fieldCount")).intValue(), is(4));
+        assertThat(rejects.get(1).get("text"), is("9,\"x,y\",10,11"));
+
+        String out = CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, output.getUri())));
+        assertThat(out, containsString("a:\"12\""));
+        assertThat(out, not(containsString("\"4\"")));
+
+        Counter records = (Counter) runContext.metrics()
+            .stream()
+            .filter(metricEntry -> metricEntry.getName().equals("records"))
+            .findFirst()
+            .get();
+
+        assertThat(records.getValue(), is(3D));
+
+        CsvToIon failing = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .maxErrors(Property.of(1))
+            .build();
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> failing.run(TestsUtils.mockRunContext(runContextFactory, failing, ImmutableMap.of()))
+        );
+        assertThat(exception.getMessage(), containsString("line 5"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void inferTypes() throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".csv");
+        Files.writeString(tempFile.toPath(), """
+            id,price,amount,active,day,at,name
+            1,1.5,12345678901234567.1,true,2024-01-31,2024-01-31T10:15:30Z,a
+            2,2,3,false,2024-02-01,2024-02-01T10:15:30.123+02:00,b
+            3,abc,4,TRUE,2024-02-30,2024-02-01T25:15,c
+            """);
+        URI source = this.serdesUtils.resourceToStorageObject(tempFile);
+
+        CsvToIon reader = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .inferTypes(Property.of(true))
+            .inferTypesSampleSize(Property.of(2))
+            .build();
+        CsvToIon.Output output = reader.run(TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of()));
+
+        List<Map<String, Object>> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, output.getUri())))) {
+            rows = FileSerde.readAll(input).map(o -> (Map<String, Object>) o).collectList().block();
+        }
+
+        assertThat(rows.size(), is(3));
+        assertThat(((Number) rows.get(0).get("id")).longValue(), is(1L));
+        assertThat(rows.get(0).get("price"), is(1.5D));
+        assertThat(rows.get(1).get("price"), is(2D));
+        assertThat(rows.get(2).get("price"), is("abc"));
+        assertThat(new BigDecimal(rows.get(0).get("amount").toString()), is(new BigDecimal("12345678901234567.1")));
+        assertThat(rows.get(0).get("active"), is(true));
+        assertThat(rows.get(2).get("active"), is(true));
+        assertThat(rows.get(0).get("day"), not(instanceOf(String.class)));
+        assertThat(rows.get(2).get("day"), is("2024-02-30"));
+        assertThat(rows.get(1).get("at"), not(instanceOf(String.class)));
+        assertThat(rows.get(2).get("at"), is("2024-02-01T25:15"));
+        assertThat(rows.get(0).get("name"), is("a"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void inferTypesPrecision() throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".csv");
+        Files.writeString(tempFile.toPath(), """
+            huge,precise,integer,late
+            1e400,1.5,1.5,1.5
+            2.5,1.2345678901234567e3,12345678901234567,2.5
+            3.5,3.5,3.5,12345678.123456789
+            """);
+        URI source = this.serdesUtils.resourceToStorageObject(tempFile);
+
+        CsvToIon reader = CsvToIon.builder()
+            .id(CsvToIonWriterTest.class.getSimpleName())
+            .type(CsvToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .inferTypes(Property.of(true))
+            .inferTypesSampleSize(Property.of(2))
+            .build();
+        CsvToIon.Output output = reader.run(TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of()));
+
+        List<Map<String, Object>> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, output.getUri())))) {
+            rows = FileSerde.readAll(input).map(o -> (Map<String, Object>) o).collectList().block();
+        }
+
+        // values a double would round, overflow or underflow widen the column to a decimal
+        assertThat(new BigDecimal(rows.get(0).get("huge").toString()), comparesEqualTo(new BigDecimal("1e400")));
+        assertThat(new BigDecimal(rows.get(1).get("precise").toString()), comparesEqualTo(new BigDecimal("1234.5678901234567")));
+        assertThat(new BigDecimal(rows.get(1).get("integer").toString()), comparesEqualTo(new BigDecimal("12345678901234567")));
+        // a double column keeps the values out of the samples that a double would round as strings
+        assertThat(rows.get(0).get("late"), is(1.5D));
+        assertThat(rows.get(2).get("late"), is("12345678.123456789"));
+    }
+
     @Test
     void skipRows() throws Exception {
         File sourceFile = SerdesUtils.resourceToFile("csv/insurance_sample.csv");
@@ -0,0 +1,122 @@
+package io.kestra.plugin.serdes.csv;
+
+import com.google.common.collect.ImmutableMap;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.serdes.SerdesUtils;
+import io.kestra.plugin.serdes.parquet.ParquetToIon;
+import jakarta.inject.Inject;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+class CsvToParquetTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Inject
+    StorageInterface storageInterface;
+
+    @Inject
+    SerdesUtils serdesUtils;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void run() throws Exception {
+        URI source = serdesUtils.resourceToStorageObject(SerdesUtils.resourceToFile("csv/insurance_sample.csv"));
+
+        CsvToParquet task = CsvToParquet.builder()
+            .id(CsvToParquetTest.class.getSimpleName())
+            .type(CsvToParquet.class.getName())
+            .from(Property.of(source.toString()))
+            .fieldSeparator(Property.of(';'))
+            .schema(IOUtils.toString(
+                Objects.requireNonNull(CsvToParquetTest.class.getClassLoader().getResource("csv/insurance_sample.avsc")),
+                StandardCharsets.UTF_8
+            ))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of());
+        CsvToParquet.Output output = task.run(runContext);
+
+        ParquetToIon reader = ParquetToIon.builder()
+            .id(ParquetToIon.class.getSimpleName())
+            .type(ParquetToIon.class.getName())
+            .from(Property.of(output.getUri().toString()))
+            .build();
+
+        ParquetToIon.Output readerOutput = reader.run(TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of()));
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        FileSerde.reader(new BufferedReader(new InputStreamReader(storageInterface.get(null, null, readerOutput.getUri()))), r -> result.add((Map<String, Object>) r));
+
+        Counter records = (Counter) runContext.metrics()
+            .stream()
+            .filter(metricEntry -> metricEntry.getName().equals("records"))
+            .findFirst()
+            .get();
+
+        assertThat(records.getValue(), is((double) result.size()));
+        assertThat(result.getFirst().get("policyID"), is("119736"));
+        assertThat(result.getFirst().get("county"), is("CLAY COUNTY"));
+        assertThat(result.getFirst().get("point_granularity"), is("1"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void maxRowsAndErrors() throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".csv");
+        Files.writeString(tempFile.toPath(), "id,name\n1,a\n2\n3,c\n4,d\n");
+        URI source = serdesUtils.resourceToStorageObject(tempFile);
+
+        CsvToParquet task = CsvToParquet.builder()
+            .id(CsvToParquetTest.class.getSimpleName())
+            .type(CsvToParquet.class.getName())
+            .from(Property.of(source.toString()))
+            .maxRows(Property.of(2))
+            .maxErrors(Property.of(1))
+            .schema("{\"type\": \"record\", \"name\": \"Row\", \"fields\": [{\"name\": \"id\", \"type\": \"int\"}, {\"name\": \"name\", \"type\": \"string\"}]}")
+            .build();
+
+        CsvToParquet.Output output = task.run(TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of()));
+
+        ParquetToIon reader = ParquetToIon.builder()
+            .id(ParquetToIon.class.getSimpleName())
+            .type(ParquetToIon.class.getName())
+            .from(Property.of(output.getUri().toString()))
+            .build();
+
+        ParquetToIon.Output readerOutput = reader.run(TestsUtils.mockRunContext(runContextFactory, reader, ImmutableMap.of()));
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        FileSerde.reader(new BufferedReader(new InputStreamReader(storageInterface.get(null, null, readerOutput.getUri()))), r -> result.add((Map<String, Object>) r));
+
+        List<Map<String, Object>> rejects = new ArrayList<>();
+        FileSerde.reader(new BufferedReader(new InputStreamReader(storageInterface.get(null, null, output.getRejects()))), r -> rejects.add((Map<String, Object>) r));
+
+        assertThat(result.size(), is(2));
+        assertThat(result.get(1).get("id"), is(3));
+        assertThat(rejects.size(), is(1));
+        assertThat(((Number) rejects.getFirst().get("line")).longValue(), is(3L));
+    }
+}
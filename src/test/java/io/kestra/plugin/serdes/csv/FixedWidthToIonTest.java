@@ -0,0 +1,153 @@
+package io.kestra.plugin.serdes.csv;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.CharStreams;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.serdes.SerdesUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class FixedWidthToIonTest {
+    private static final List<FixedWidthToIon.Column> COLUMNS = List.of(
+        FixedWidthToIon.Column.builder().name("id").start(0).length(6).type(FixedWidthToIon.ColumnType.LONG).build(),
+        FixedWidthToIon.Column.builder().name("name").start(6).length(10).build(),
+        FixedWidthToIon.Column.builder().name("active").start(16).length(5).type(FixedWidthToIon.ColumnType.BOOLEAN).build()
+    );
+
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Inject
+    StorageInterface storageInterface;
+
+    @Inject
+    SerdesUtils serdesUtils;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void lines() throws Exception {
+        URI source = this.source("ID    NAME      ACTIVE\r\n", "\r\n", 3);
+
+        FixedWidthToIon task = task(source).skipRows(Property.of(1)).build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of());
+        FixedWidthToIon.Output output = task.run(runContext);
+
+        List<Map<String, Object>> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, output.getUri())))) {
+            rows = FileSerde.readAll(input).map(o -> (Map<String, Object>) o).collectList().block();
+        }
+
+        assertThat(rows.size(), is(3));
+        assertThat(((Number) rows.get(0).get("id")).longValue(), is(0L));
+        assertThat(rows.get(1).get("name"), is("name 1"));
+        assertThat(rows.get(1).get("active"), is(false));
+        assertThat(rows.get(2).get("active"), is(true));
+        assertThat(records(runContext), is(3D));
+    }
+
+    @Test
+    void parallel() throws Exception {
+        URI source = this.source("ID    NAME      ACTIVE\n", "\n", 1000);
+
+        FixedWidthToIon sequential = task(source).skipRows(Property.of(1)).build();
+        FixedWidthToIon.Output sequentialOutput = sequential.run(TestsUtils.mockRunContext(runContextFactory, sequential, ImmutableMap.of()));
+
+        FixedWidthToIon parallel = task(source).skipRows(Property.of(1)).parallelism(Property.of(4)).build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, parallel, ImmutableMap.of());
+        FixedWidthToIon.Output parallelOutput = parallel.run(runContext);
+
+        assertThat(
+            CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, parallelOutput.getUri()))),
+            is(CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, sequentialOutput.getUri()))))
+        );
+        assertThat(records(runContext), is(1000D));
+    }
+
+    @Test
+    void recordLength() throws Exception {
+        URI source = this.source("", "", 1000);
+
+        FixedWidthToIon sequential = task(source).recordLength(Property.of(21)).build();
+        FixedWidthToIon.Output sequentialOutput = sequential.run(TestsUtils.mockRunContext(runContextFactory, sequential, ImmutableMap.of()));
+
+        FixedWidthToIon parallel = task(source).recordLength(Property.of(21)).parallelism(Property.of(3)).build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, parallel, ImmutableMap.of());
+        FixedWidthToIon.Output parallelOutput = parallel.run(runContext);
+
+        String out = CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, parallelOutput.getUri())));
+
+        assertThat(out, is(CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, sequentialOutput.getUri())))));
+        assertThat(out, containsString("name:\"name 999\""));
+        assertThat(records(runContext), is(1000D));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void truncatedRecord() throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".txt");
+        Files.writeString(tempFile.toPath(), String.format("%-6d%-10s%-5s%-6d%-10s%-5s%-6d%-3s", 0, "name 0", true, 1, "name 1", false, 2, "nam"));
+        URI source = this.serdesUtils.resourceToStorageObject(tempFile);
+
+        FixedWidthToIon task = task(source).recordLength(Property.of(21)).build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, ImmutableMap.of());
+        FixedWidthToIon.Output output = task.run(runContext);
+
+        List<Map<String, Object>> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, output.getUri())))) {
+            rows = FileSerde.readAll(input).map(o -> (Map<String, Object>) o).collectList().block();
+        }
+
+        assertThat(rows.size(), is(2));
+        assertThat(rows.get(1).get("name"), is("name 1"));
+        assertThat(records(runContext), is(2D));
+    }
+
+    private FixedWidthToIon.FixedWidthToIonBuilder<?, ?> task(URI source) {
+        return FixedWidthToIon.builder()
+            .id(FixedWidthToIonTest.class.getSimpleName())
+            .type(FixedWidthToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .columns(COLUMNS);
+    }
+
+    private URI source(String header, String separator, int rows) throws Exception {
+        StringBuilder content = new StringBuilder(header);
+        for (int i = 0; i < rows; i++) {
+            content.append(String.format("%-6d%-10s%-5s", i, "name " + i, i % 2 == 0)).append(separator);
+        }
+
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".txt");
+        Files.writeString(tempFile.toPath(), content.toString());
+
+        return this.serdesUtils.resourceToStorageObject(tempFile);
+    }
+
+    private static double records(RunContext runContext) {
+        Counter records = (Counter) runContext.metrics()
+            .stream()
+            .filter(metricEntry -> metricEntry.getName().equals("records"))
+            .findFirst()
+            .get();
+
+        return records.getValue();
+    }
+}
@@ -87,6 +87,35 @@ class IonToCsvTest {
         }
     }
 
+    @Test
+    void mapDifferentKeys() throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
+        try (OutputStream output = new FileOutputStream(tempFile)) {
+            Arrays
+                .asList(
+                    ImmutableMap.of("a", 1, "b", 2, "c", 3),
+                    ImmutableMap.of("c", 6, "a", 4, "b", 5),
+                    ImmutableMap.of("a", 7, "c", 9),
+                    ImmutableMap.of("b", 11, "a", 10, "d", 13, "c", 12)
+                )
+                .forEach(throwConsumer(row -> FileSerde.write(output, row)));
+
+            URI uri = storageInterface.put(null, null, URI.create("/" + IdUtils.create() + ".ion"), new FileInputStream(tempFile));
+
+            IonToCsv writer = IonToCsv.builder()
+                .id(IonToCsvTest.class.getSimpleName())
+                .type(IonToCsv.class.getName())
+                .from(Property.of(uri.toString()))
+                .header(Property.of(true))
+                .build();
+            IonToCsv.Output writerRunOutput = writer.run(TestsUtils.mockRunContext(runContextFactory, writer, ImmutableMap.of()));
+
+            String out = CharStreams.toString(new InputStreamReader(storageInterface.get(null, null, writerRunOutput.getUri())));
+
+            assertThat(out, is("a,b,c\n1,2,3\n4,5,6\n7,,9\n10,11,12\n"));
+        }
+    }
+
     @Test
     void list() throws Exception {
         File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
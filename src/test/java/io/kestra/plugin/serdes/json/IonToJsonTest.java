@@ -0,0 +1,146 @@
+package io.kestra.plugin.serdes.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import jakarta.inject.Inject;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.net.URI;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+import static io.kestra.core.utils.Rethrow.throwConsumer;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+class IonToJsonTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Inject
+    StorageInterface storageInterface;
+
+    private URI ion(List<Map<String, Object>> rows) throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
+        try (OutputStream output = new FileOutputStream(tempFile)) {
+            rows.forEach(throwConsumer(row -> FileSerde.write(output, row)));
+        }
+
+        return storageInterface.put(null, null, URI.create("/" + IdUtils.create() + ".ion"), new FileInputStream(tempFile));
+    }
+
+    private String array(URI from) throws Exception {
+        IonToJson writer = IonToJson.builder()
+            .id(IonToJsonTest.class.getSimpleName())
+            .type(IonToJson.class.getName())
+            .from(Property.of(from.toString()))
+            .newLine(Property.of(false))
+            .timeZoneId(Property.of("Europe/Lisbon"))
+            .build();
+        IonToJson.Output run = writer.run(TestsUtils.mockRunContext(runContextFactory, writer, ImmutableMap.of()));
+
+        return IOUtils.toString(this.storageInterface.get(null, null, run.getUri()), Charsets.UTF_8);
+    }
+
+    /**
+     * The array as it was written before streaming: every record collected in a list, then written at once.
+     */
+    private String previous(URI from) throws Exception {
+        ObjectMapper mapper = new ObjectMapper()
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .setSerializationInclusion(JsonInclude.Include.ALWAYS)
+            .setTimeZone(TimeZone.getTimeZone(ZoneId.of("Europe/Lisbon")))
+            .registerModule(new JavaTimeModule())
+            .registerModule(new Jdk8Module());
+
+        List<Object> list;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, from)))) {
+            list = FileSerde.readAll(input).collectList().block();
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        mapper.writerFor(Object.class).writeValues(output).write(list);
+
+        return output.toString(Charsets.UTF_8);
+    }
+
+    @Test
+    void array() throws Exception {
+        Map<String, Object> withNull = new LinkedHashMap<>();
+        withNull.put("id", 2);
+        withNull.put("name", null);
+        withNull.put("tags", List.of());
+
+        URI uri = this.ion(List.of(
+            ImmutableMap.of(
+                "id", 1,
+                "name", "john",
+                "tags", List.of("a", "b"),
+                "address", ImmutableMap.of("city", "paris"),
+                "date", ZonedDateTime.parse("2021-05-05T12:21:12.123456+02:00")
+            ),
+            withNull
+        ));
+
+        String out = this.array(uri);
+
+        assertThat(out, is(this.previous(uri)));
+        assertThat(out.startsWith("[{\"id\":1,\"name\":\"john\",\"tags\":[\"a\",\"b\"],\"address\":{\"city\":\"paris\"},"), is(true));
+        assertThat(out.endsWith("},{\"id\":2,\"name\":null,\"tags\":[]}]"), is(true));
+    }
+
+    /**
+     * The json lines keep the bytes jackson always wrote: records after the first start with the root value separator.
+     */
+    @Test
+    void jsonLines() throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            rows.add(ImmutableMap.of("id", i));
+        }
+        URI uri = this.ion(rows);
+
+        for (int parallelism : new int[]{1, 4}) {
+            IonToJson writer = IonToJson.builder()
+                .id(IonToJsonTest.class.getSimpleName())
+                .type(IonToJson.class.getName())
+                .from(Property.of(uri.toString()))
+                .parallelism(Property.of(parallelism))
+                .build();
+            IonToJson.Output run = writer.run(TestsUtils.mockRunContext(runContextFactory, writer, ImmutableMap.of()));
+
+            String out = IOUtils.toString(this.storageInterface.get(null, null, run.getUri()), Charsets.UTF_8);
+
+            assertThat(out.startsWith("{\"id\":0}\n {\"id\":1}\n"), is(true));
+            assertThat(out.contains("\n {\"id\":999}\n {\"id\":1000}\n"), is(true));
+            assertThat(out.endsWith("\n {\"id\":2499}\n"), is(true));
+            assertThat(out.lines().count(), is(2500L));
+        }
+    }
+
+    @Test
+    void arrayEmpty() throws Exception {
+        URI uri = this.ion(List.of());
+
+        String out = this.array(uri);
+
+        assertThat(out, is(this.previous(uri)));
+        assertThat(out, is("[]"));
+    }
+}
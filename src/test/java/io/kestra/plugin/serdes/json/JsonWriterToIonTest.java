@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.metrics.Counter;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.serializers.FileSerde;
 import io.kestra.core.storages.StorageInterface;
@@ -20,16 +22,20 @@ import org.junit.jupiter.api.Test;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
 class JsonWriterToIonTest {
@@ -128,6 +134,337 @@ class JsonWriterToIonTest {
         assertThat(objects.get(0).get("id"), is(4814976));
     }
 
+    @Test
+    void largeArray() throws Exception {
+        File sourceFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".json");
+        try (Writer writer = new BufferedWriter(new FileWriter(sourceFile))) {
+            writer.write("[");
+            for (int i = 0; i < 50000; i++) {
+                writer.write((i == 0 ? "" : ",") + "{\"id\":" + i + ",\"name\":\"name " + i + "\"}");
+            }
+            writer.write("]");
+        }
+
+        JsonToIon reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(this.serdesUtils.resourceToStorageObject(sourceFile).toString()))
+            .newLine(Property.of(false))
+            .build();
+        RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of());
+        JsonToIon.Output readerRunOutput = reader.run(runContext);
+
+        List<Object> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, readerRunOutput.getUri())))) {
+            rows = FileSerde.readAll(input).collectList().block();
+        }
+
+        assertThat(rows.size(), is(50000));
+        for (int i = 0; i < rows.size(); i++) {
+            Map<?, ?> row = (Map<?, ?>) rows.get(i);
+            assertThat(((Number) row.get("id")).intValue(), is(i));
+            assertThat(row.get("name"), is("name " + i));
+        }
+
+        Counter records = (Counter) runContext.metrics()
+            .stream()
+            .filter(metricEntry -> metricEntry.getName().equals("records"))
+            .findFirst()
+            .get();
+
+        assertThat(records.getValue(), is(50000D));
+    }
+
+    @Test
+    void emptyArray() throws Exception {
+        File sourceFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".json");
+        Files.writeString(sourceFile.toPath(), "[]");
+
+        JsonToIon reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(this.serdesUtils.resourceToStorageObject(sourceFile).toString()))
+            .newLine(Property.of(false))
+            .build();
+        RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of());
+        JsonToIon.Output readerRunOutput = reader.run(runContext);
+
+        assertThat(IOUtils.toString(this.storageInterface.get(null, null, readerRunOutput.getUri()), Charsets.UTF_8), is(""));
+
+        Counter records = (Counter) runContext.metrics()
+            .stream()
+            .filter(metricEntry -> metricEntry.getName().equals("records"))
+            .findFirst()
+            .get();
+
+        assertThat(records.getValue(), is(0D));
+    }
+
+    @Test
+    void charset() throws Exception {
+        File sourceFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".jsonl");
+        Files.writeString(sourceFile.toPath(), "{\"name\":\"caf\u00e9\"}\n\n{\"name\":\"cr\u00e8me\"}\n", StandardCharsets.ISO_8859_1);
+        URI source = this.serdesUtils.resourceToStorageObject(sourceFile);
+
+        JsonToIon reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .charset(Property.of(StandardCharsets.ISO_8859_1.name()))
+            .build();
+        JsonToIon.Output readerRunOutput = reader.run(TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of()));
+
+        List<Object> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, readerRunOutput.getUri()), StandardCharsets.ISO_8859_1))) {
+            rows = FileSerde.readAll(input).collectList().block();
+        }
+
+        assertThat(rows.size(), is(2));
+        assertThat(((Map<?, ?>) rows.get(0)).get("name"), is("caf\u00e9"));
+        assertThat(((Map<?, ?>) rows.get(1)).get("name"), is("cr\u00e8me"));
+    }
+
+    @Test
+    void jsonPointer() throws Exception {
+        File sourceFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".json");
+        Files.writeString(sourceFile.toPath(), "{\"meta\":{\"count\":2,\"data\":[0]},\"response\":{\"items\":[{\"id\":1},{\"id\":2,\"tags\":[\"a\"]}]},\"after\":[3]}");
+        URI source = this.serdesUtils.resourceToStorageObject(sourceFile);
+
+        JsonToIon reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .newLine(Property.of(false))
+            .jsonPointer(Property.of("/response/items"))
+            .build();
+        JsonToIon.Output readerRunOutput = reader.run(TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of()));
+
+        List<Object> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, readerRunOutput.getUri())))) {
+            rows = FileSerde.readAll(input).collectList().block();
+        }
+
+        assertThat(rows.size(), is(2));
+        assertThat(((Number) ((Map<?, ?>) rows.get(0)).get("id")).intValue(), is(1));
+        assertThat(((Map<?, ?>) rows.get(1)).get("tags"), is(List.of("a")));
+    }
+
+    @Test
+    void jsonPointerNewLine() throws Exception {
+        File sourceFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".jsonl");
+        Files.writeString(sourceFile.toPath(), "{\"data\":[{\"id\":1},{\"id\":2}],\"next\":{\"page\":2}}\n{\"data\":[{\"id\":3}],\"next\":null}\n");
+        URI source = this.serdesUtils.resourceToStorageObject(sourceFile);
+
+        JsonToIon reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .jsonPointer(Property.of("/data"))
+            .build();
+        JsonToIon.Output readerRunOutput = reader.run(TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of()));
+
+        List<Object> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, readerRunOutput.getUri())))) {
+            rows = FileSerde.readAll(input).collectList().block();
+        }
+
+        assertThat(rows.size(), is(3));
+        assertThat(((Number) ((Map<?, ?>) rows.get(2)).get("id")).intValue(), is(3));
+    }
+
+    @Test
+    void fields() throws Exception {
+        File sourceFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".jsonl");
+        Files.writeString(sourceFile.toPath(),
+            "{\"id\":1,\"payload\":{\"big\":[1,2,3]},\"user\":{\"name\":\"john\",\"age\":30},\"items\":[{\"sku\":\"a\",\"price\":1}]}\n" +
+            "{\"id\":2,\"user\":null,\"items\":[]}\n"
+        );
+        URI source = this.serdesUtils.resourceToStorageObject(sourceFile);
+
+        JsonToIon reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .fields(Property.of(List.of("id", "user.name", "items.sku")))
+            .build();
+        JsonToIon.Output readerRunOutput = reader.run(TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of()));
+
+        List<Object> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, readerRunOutput.getUri())))) {
+            rows = FileSerde.readAll(input).collectList().block();
+        }
+
+        assertThat(rows.size(), is(2));
+        Map<?, ?> first = (Map<?, ?>) rows.getFirst();
+        assertThat(first.keySet(), is(Set.of("id", "user", "items")));
+        assertThat(first.get("user"), is(Map.of("name", "john")));
+        assertThat(first.get("items"), is(List.of(Map.of("sku", "a"))));
+        assertThat(((Map<?, ?>) rows.get(1)).keySet(), is(Set.of("id", "items")));
+    }
+
+    @Test
+    void parallelEncoding() throws Exception {
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
+        try (OutputStream output = new FileOutputStream(tempFile)) {
+            for (int i = 0; i < 2500; i++) {
+                FileSerde.write(output, Map.of("id", i, "name", "name " + i));
+            }
+        }
+        URI uri = storageInterface.put(null, null, URI.create("/" + IdUtils.create() + ".ion"), new FileInputStream(tempFile));
+
+        IonToJson.Output sequential = this.writer(uri, true);
+
+        IonToJson writer = IonToJson.builder()
+            .id(IonToJson.class.getSimpleName())
+            .type(IonToJson.class.getName())
+            .from(Property.of(uri.toString()))
+            .parallelism(Property.of(4))
+            .build();
+        IonToJson.Output parallel = writer.run(TestsUtils.mockRunContext(runContextFactory, writer, ImmutableMap.of()));
+
+        String out = IOUtils.toString(this.storageInterface.get(null, null, parallel.getUri()), Charsets.UTF_8);
+        assertThat(out, is(IOUtils.toString(this.storageInterface.get(null, null, sequential.getUri()), Charsets.UTF_8)));
+        assertThat(out.lines().count(), is(2500L));
+    }
+
+    @Test
+    void flatten() throws Exception {
+        File sourceFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".jsonl");
+        Files.writeString(sourceFile.toPath(),
+            "{\"id\":1,\"user\":{\"name\":\"john\",\"address\":{\"city\":\"paris\"}},\"items\":[{\"sku\":\"a\"},{\"sku\":\"b\"}]}\n"
+        );
+        URI source = this.serdesUtils.resourceToStorageObject(sourceFile);
+
+        JsonToIon reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .flatten(Property.of(true))
+            .flattenArrays(Property.of(JsonToIon.FlattenArrays.INDEX))
+            .build();
+        JsonToIon.Output readerRunOutput = reader.run(TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of()));
+
+        List<Object> rows;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, readerRunOutput.getUri())))) {
+            rows = FileSerde.readAll(input).collectList().block();
+        }
+
+        Map<?, ?> row = (Map<?, ?>) rows.getFirst();
+        assertThat(row.keySet(), is(Set.of("id", "user.name", "user.address.city", "items.0.sku", "items.1.sku")));
+        assertThat(row.get("user.address.city"), is("paris"));
+        assertThat(row.get("items.1.sku"), is("b"));
+
+        reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .flatten(Property.of(true))
+            .flattenArrays(Property.of(JsonToIon.FlattenArrays.JSON))
+            .fields(Property.of(List.of("user.address", "items")))
+            .build();
+        readerRunOutput = reader.run(TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of()));
+
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, readerRunOutput.getUri())))) {
+            rows = FileSerde.readAll(input).collectList().block();
+        }
+
+        row = (Map<?, ?>) rows.getFirst();
+        assertThat(row.keySet(), is(Set.of("user.address.city", "items")));
+        assertThat(row.get("items"), is("[{\"sku\":\"a\"},{\"sku\":\"b\"}]"));
+    }
+
+    @Test
+    void parallel() throws Exception {
+        File sourceFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".jsonl");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append("{\"id\":").append(i).append(",\"name\":\"name ").append(i).append("\"}\n");
+        }
+        Files.writeString(sourceFile.toPath(), content.toString());
+
+        JsonToIon.Output sequential = this.reader(sourceFile, true);
+
+        JsonToIon reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(this.serdesUtils.resourceToStorageObject(sourceFile).toString()))
+            .parallelism(Property.of(4))
+            .build();
+        JsonToIon.Output parallel = reader.run(TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of()));
+
+        String out = IOUtils.toString(this.storageInterface.get(null, null, parallel.getUri()), Charsets.UTF_8);
+        assertThat(out, is(IOUtils.toString(this.storageInterface.get(null, null, sequential.getUri()), Charsets.UTF_8)));
+        assertThat(out.lines().count(), is(1000L));
+    }
+
+    @Test
+    void vectorParser() throws Exception {
+        File sourceFile = SerdesUtils.resourceToFile("csv/full.jsonl");
+
+        JsonToIon reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(this.serdesUtils.resourceToStorageObject(sourceFile).toString()))
+            .parser(Property.of(JsonToIon.Parser.VECTOR))
+            .build();
+        JsonToIon.Output vector = reader.run(TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of()));
+
+        assertThat(
+            IOUtils.toString(this.storageInterface.get(null, null, vector.getUri()), Charsets.UTF_8),
+            is(IOUtils.toString(this.storageInterface.get(null, null, this.reader(sourceFile, true).getUri()), Charsets.UTF_8))
+        );
+
+        JsonToIon transcode = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(this.serdesUtils.resourceToStorageObject(sourceFile).toString()))
+            .parser(Property.of(JsonToIon.Parser.VECTOR))
+            .transcode(Property.of(true))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> transcode.run(TestsUtils.mockRunContext(this.runContextFactory, transcode, ImmutableMap.of())));
+    }
+
+    @Test
+    void transcode() throws Exception {
+        File sourceFile = SerdesUtils.resourceToFile("csv/full.jsonl");
+        URI source = this.serdesUtils.resourceToStorageObject(sourceFile);
+
+        JsonToIon reader = JsonToIon.builder()
+            .id(JsonToIon.class.getSimpleName())
+            .type(JsonToIon.class.getName())
+            .from(Property.of(source.toString()))
+            .transcode(Property.of(true))
+            .build();
+        JsonToIon.Output readerRunOutput = reader.run(TestsUtils.mockRunContext(this.runContextFactory, reader, ImmutableMap.of()));
+
+        List<Object> transcoded;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, readerRunOutput.getUri())))) {
+            transcoded = FileSerde.readAll(input).collectList().block();
+        }
+
+        List<Object> expected;
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(storageInterface.get(null, null, this.reader(sourceFile, true).getUri())))) {
+            expected = FileSerde.readAll(input).collectList().block();
+        }
+
+        assertThat(transcoded, is(expected));
+
+        IonToJson writer = IonToJson.builder()
+            .id(IonToJson.class.getSimpleName())
+            .type(IonToJson.class.getName())
+            .from(Property.of(readerRunOutput.getUri().toString()))
+            .newLine(Property.of(false))
+            .transcode(Property.of(true))
+            .build();
+        IonToJson.Output writerRunOutput = writer.run(TestsUtils.mockRunContext(runContextFactory, writer, ImmutableMap.of()));
+
+        assertThat(
+            mapper.readTree(new InputStreamReader(storageInterface.get(null, null, writerRunOutput.getUri()))),
+            is(mapper.readTree(new InputStreamReader(storageInterface.get(null, null, this.writer(readerRunOutput.getUri(), false).getUri()))))
+        );
+    }
+
     @Test
     void ion() throws Exception {
         File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
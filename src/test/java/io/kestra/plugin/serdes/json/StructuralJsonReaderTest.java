@@ -0,0 +1,100 @@
+package io.kestra.plugin.serdes.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StructuralJsonReaderTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static List<Object> jackson(String content) throws IOException {
+        List<Object> values = new ArrayList<>();
+        ObjectReader objectReader = MAPPER.readerFor(Object.class);
+
+        try (JsonParser parser = MAPPER.getFactory().createParser(content.getBytes(StandardCharsets.UTF_8))) {
+            while (parser.nextToken() != null) {
+                values.add(objectReader.readValue(parser));
+            }
+        }
+
+        return values;
+    }
+
+    private static List<Object> vector(String content, int bufferSize) throws IOException {
+        List<Object> values = new ArrayList<>();
+
+        new StructuralJsonReader(new VectorStructuralIndexer(), bufferSize)
+            .read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), values::add);
+
+        return values;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 100, 1024 * 1024})
+    void sameAsJackson(int bufferSize) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            content
+                .append("{\"id\":").append(i)
+                .append(",\"name\":\"café ").append("\\\\".repeat(i % 5)).append("\\\"").append(i).append("\"")
+                .append(",\"escapes\":\"\\n\\t\\/\\u00e9\\ud83d\\ude00\"")
+                .append(",\"price\":").append(i * 1.5)
+                .append(",\"big\":").append("9".repeat(i % 25 + 1))
+                .append(",\"negative\":-").append(i).append("e-3")
+                .append(",\"nested\":{\"flag\":").append(i % 2 == 0).append(",\"tags\":[\"a\",{},[],null]}")
+                .append(",\"empty\":\"\"}")
+                .append(i % 3 == 0 ? "\r\n" : "\n");
+
+            if (i % 50 == 0) {
+                // a value spanning several lines and empty lines
+                content.append("\n{\n  \"multi\": [1,\n 2]\n}\n\n");
+            }
+        }
+
+        assertThat(vector(content.toString(), bufferSize), is(jackson(content.toString())));
+    }
+
+    @Test
+    void numbers() throws IOException {
+        List<Object> values = vector("1 -2147483649 9223372036854775807 -9223372036854775808 9223372036854775808 0.5 -0", 64);
+
+        assertThat(values.get(0), is(1));
+        assertThat(values.get(1), is(-2147483649L));
+        assertThat(values.get(2), is(Long.MAX_VALUE));
+        assertThat(values.get(3), is(Long.MIN_VALUE));
+        assertThat(values.get(4), is(new BigInteger("9223372036854775808")));
+        assertThat(values.get(5), is(0.5D));
+        assertThat(values.get(6), is(0));
+    }
+
+    @Test
+    void lastLineWithoutNewLine() throws IOException {
+        List<Object> values = vector("{\"a\":1}\n{\"a\":2}", 64);
+
+        assertThat(values.size(), is(2));
+        assertThat(values.get(1), instanceOf(Map.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\":1,}", "[1,]", "{\"a\" 1}", "truex", "01", "1.", "-", "\"abc", "[1 2]", "{\"a\":}", "\"a\\x\"", "\"a\tb\"", "{\"a\":1", "{\"a\":1}}"})
+    void invalid(String content) {
+        assertThrows(IOException.class, () -> jackson(content));
+        assertThrows(IOException.class, () -> vector(content, 64));
+    }
+}